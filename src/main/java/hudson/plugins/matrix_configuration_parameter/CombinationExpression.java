@@ -0,0 +1,191 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import hudson.matrix.Combination;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * Builds Groovy expressions matching selected combinations,
+ * used as the value of {@link MatrixCombinationsParameterValue} variables.
+ */
+final class CombinationExpression {
+    private CombinationExpression() {}
+
+    /**
+     * Lists each combination like {@code (axis1 == 'value1' && axis2 == 'value2') || ...}.
+     *
+     * @param combinations string representations of combinations
+     * @return the expression, or an empty string for no combinations.
+     */
+    @Nonnull
+    static String of(@Nonnull Collection<String> combinations) {
+        List<String> clauses = new ArrayList<String>(combinations.size());
+        for (String combination : combinations) {
+            clauses.add(String.format("(%s')", combination.replace("=", " == '").replace(",", "' && ")));
+        }
+        return StringUtils.join(clauses, " || ");
+    }
+
+    /**
+     * Factors out cartesian products of values into {@code axis in [...]} terms
+     * like {@code (axis1 in ['value1', 'value2'] && axis2 == 'value3') || ...}.
+     *
+     * The expression matches the same combinations as {@link #of(Collection)}.
+     * Falls back to {@link #of(Collection)} if combinations are not in the same axes.
+     *
+     * @param combinations string representations of combinations
+     * @return the expression, or an empty string for no combinations.
+     */
+    @Nonnull
+    static String minimize(@Nonnull Collection<String> combinations) {
+        List<String> names = null;
+        Set<List<String>> tuples = new LinkedHashSet<List<String>>();
+        for (String combination : combinations) {
+            Combination c = CombinationIndex.parse(combination);
+            if (c == null || c.isEmpty() || (names != null && !names.equals(new ArrayList<String>(c.keySet())))) {
+                return of(combinations);
+            }
+            if (names == null) {
+                names = new ArrayList<String>(c.keySet());
+            }
+            tuples.add(new ArrayList<String>(c.values()));
+        }
+        if (names == null) {
+            return "";
+        }
+        List<Integer> axes = new ArrayList<Integer>();
+        for (int i = 0; i < names.size(); ++i) {
+            axes.add(i);
+        }
+        return minimize(names, tuples, axes);
+    }
+
+    /**
+     * @param names axis names
+     * @param tuples values of combinations, in the order of names
+     * @param axes indices of axes not factored out yet
+     * @return the expression, or {@code null} if it is always true.
+     */
+    @CheckForNull
+    private static String minimize(
+            @Nonnull List<String> names, @Nonnull Collection<List<String>> tuples, @Nonnull List<Integer> axes) {
+        if (axes.isEmpty()) {
+            return null;
+        }
+
+        // factor out the axis resulting in the fewest clauses
+        int axis = -1;
+        Map<Set<String>, Set<List<String>>> clauses = null;
+        for (int candidate : axes) {
+            Map<Set<String>, Set<List<String>>> grouped = group(tuples, candidate);
+            if (clauses == null || grouped.size() < clauses.size()) {
+                axis = candidate;
+                clauses = grouped;
+            }
+        }
+        List<Integer> rest = new ArrayList<Integer>(axes);
+        rest.remove(Integer.valueOf(axis));
+
+        List<String> expressions = new ArrayList<String>();
+        for (Map.Entry<Set<String>, Set<List<String>>> clause : clauses.entrySet()) {
+            String term = term(names.get(axis), clause.getKey());
+            String sub = minimize(names, clause.getValue(), rest);
+            if (sub == null) {
+                expressions.add(term);
+            } else if (sub.contains(" || ")) {
+                expressions.add(String.format("%s && (%s)", term, sub));
+            } else {
+                expressions.add(String.format("%s && %s", term, sub));
+            }
+        }
+        if (expressions.size() == 1) {
+            return expressions.get(0);
+        }
+        List<String> wrapped = new ArrayList<String>(expressions.size());
+        for (String expression : expressions) {
+            wrapped.add(String.format("(%s)", expression));
+        }
+        return StringUtils.join(wrapped, " || ");
+    }
+
+    /**
+     * Groups combinations by values of the other axes,
+     * and then those by values of the axis they are combined with.
+     *
+     * @return values of the axis to values of combinations with that axis cleared.
+     */
+    @Nonnull
+    private static Map<Set<String>, Set<List<String>>> group(@Nonnull Collection<List<String>> tuples, int axis) {
+        Map<List<String>, Set<String>> valuesByRest = new LinkedHashMap<List<String>, Set<String>>();
+        for (List<String> tuple : tuples) {
+            List<String> rest = new ArrayList<String>(tuple);
+            rest.set(axis, null);
+            Set<String> values = valuesByRest.get(rest);
+            if (values == null) {
+                values = new LinkedHashSet<String>();
+                valuesByRest.put(rest, values);
+            }
+            values.add(tuple.get(axis));
+        }
+        Map<Set<String>, Set<List<String>>> restsByValues = new LinkedHashMap<Set<String>, Set<List<String>>>();
+        for (Map.Entry<List<String>, Set<String>> e : valuesByRest.entrySet()) {
+            Set<List<String>> rests = restsByValues.get(e.getValue());
+            if (rests == null) {
+                rests = new LinkedHashSet<List<String>>();
+                restsByValues.put(e.getValue(), rests);
+            }
+            rests.add(e.getKey());
+        }
+        return restsByValues;
+    }
+
+    @Nonnull
+    private static String term(@Nonnull String name, @Nonnull Set<String> values) {
+        if (values.size() == 1) {
+            return String.format("%s == %s", name, quote(values.iterator().next()));
+        }
+        List<String> quoted = new ArrayList<String>(values.size());
+        for (String value : values) {
+            quoted.add(quote(value));
+        }
+        return String.format("%s in [%s]", name, StringUtils.join(quoted, ", "));
+    }
+
+    @Nonnull
+    private static String quote(@Nonnull String value) {
+        return String.format("'%s'", value.replace("\\", "\\\\").replace("'", "\\'"));
+    }
+}
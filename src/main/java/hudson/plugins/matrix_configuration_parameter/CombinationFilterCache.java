@@ -0,0 +1,267 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import groovy.lang.Binding;
+import groovy.lang.GroovyShell;
+import groovy.lang.Script;
+import hudson.Util;
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import jenkins.util.SystemProperties;
+import org.codehaus.groovy.runtime.InvokerHelper;
+import org.jenkinsci.plugins.scriptsecurity.sandbox.groovy.GroovySandbox;
+import org.jenkinsci.plugins.scriptsecurity.sandbox.whitelists.Whitelist;
+
+/**
+ * Cache of compiled combination filters.
+ *
+ * {@link Combination#evalGroovyExpression(AxisList, String)} parses and compiles
+ * the expression every time it is called,
+ * which is expensive when the same filter is evaluated for every cell of a large matrix.
+ * This keeps compiled scripts keyed by the expression text (with LRU eviction)
+ * and runs them in the script-security sandbox in the same way as matrix-project does.
+ * Simple expressions are evaluated without Groovy at all with {@link SimpleCombinationFilter}.
+ *
+ * Expressions that fail to compile or to run here are marked
+ * and always delegated to {@link Combination#evalGroovyExpression(AxisList, String)}
+ * so that errors are reported exactly as before.
+ */
+public final class CombinationFilterCache {
+    private static final Logger LOGGER = Logger.getLogger(CombinationFilterCache.class.getName());
+
+    /**
+     * Same as what matrix-project wraps expressions with to provide {@code implies}.
+     */
+    private static final String BOOLEAN_CATEGORY = "hudson.matrix.FilterScript.BooleanCategory";
+
+    private static final int DEFAULT_MAX_SIZE = 256;
+
+    private static final CombinationFilterCache INSTANCE = new CombinationFilterCache(
+            SystemProperties.getInteger(CombinationFilterCache.class.getName() + ".maxSize", DEFAULT_MAX_SIZE));
+
+    private final Map<String, CompiledFilter> filters;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    CombinationFilterCache(final int maxSize) {
+        this.filters = new LinkedHashMap<String, CompiledFilter>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompiledFilter> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return the instance shared in this Jenkins
+     */
+    @Nonnull
+    public static CombinationFilterCache get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Evaluates a combination filter with the shared cache.
+     *
+     * @param axes axes of the project
+     * @param c combination to test
+     * @param expression combination filter
+     * @return same as {@link Combination#evalGroovyExpression(AxisList, String)}
+     */
+    public static boolean evaluate(AxisList axes, @Nonnull Combination c, @CheckForNull String expression) {
+        return get().eval(axes, c, expression);
+    }
+
+    /**
+     * @param axes axes of the project
+     * @param c combination to test
+     * @param expression combination filter
+     * @return same as {@link Combination#evalGroovyExpression(AxisList, String)}
+     */
+    public boolean eval(AxisList axes, @Nonnull Combination c, @CheckForNull String expression) {
+        if (Util.fixEmptyAndTrim(expression) == null) {
+            // evalGroovyExpression accepts all combinations for empty expressions.
+            return true;
+        }
+        if (axes == null) {
+            return c.evalGroovyExpression(axes, expression);
+        }
+        CompiledFilter filter = lookup(expression);
+        if (filter.simple != null) {
+            Boolean result = filter.simple.evaluate(c);
+            if (result != null) {
+                return result;
+            }
+        }
+        Class<? extends Script> scriptClass = filter.getScriptClass();
+        if (scriptClass == null) {
+            return c.evalGroovyExpression(axes, expression);
+        }
+
+        Binding binding = new Binding();
+        for (Map.Entry<String, String> e : c.entrySet()) {
+            binding.setVariable(e.getKey(), e.getValue());
+        }
+        binding.setVariable("index", c.toModuloIndex(axes));
+        binding.setVariable("uniqueId", c.toIndex(axes));
+
+        try {
+            Script script = InvokerHelper.createScript(scriptClass, binding);
+            return Boolean.TRUE.equals(GroovySandbox.run(script, Whitelist.all()));
+        } catch (RuntimeException e) {
+            // e.g. rejected by the sandbox, or refers an undefined variable.
+            // Let matrix-project handle this expression from now on.
+            LOGGER.log(Level.FINE, String.format("Delegate evaluation of combination filter: %s", expression), e);
+            filter.disable();
+            return c.evalGroovyExpression(axes, expression);
+        }
+    }
+
+    @Nonnull
+    private CompiledFilter lookup(@Nonnull String expression) {
+        synchronized (filters) {
+            CompiledFilter filter = filters.get(expression);
+            if (filter != null) {
+                hitCount.incrementAndGet();
+                return filter;
+            }
+        }
+        missCount.incrementAndGet();
+        // parse out of the lock. It's fine that another thread parses the same expression.
+        CompiledFilter filter = new CompiledFilter(expression, SimpleCombinationFilter.parse(expression));
+        synchronized (filters) {
+            CompiledFilter existing = filters.get(expression);
+            if (existing != null) {
+                return existing;
+            }
+            filters.put(expression, filter);
+        }
+        return filter;
+    }
+
+    @CheckForNull
+    private static Class<? extends Script> compile(@Nonnull String expression) {
+        try {
+            GroovyShell shell = new GroovyShell(
+                    Combination.class.getClassLoader(),
+                    new Binding(),
+                    GroovySandbox.createSecureCompilerConfiguration());
+            return shell.parse(String.format("use(%s) {%s}", BOOLEAN_CATEGORY, expression))
+                    .getClass();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.FINE, String.format("Failed to compile combination filter: %s", expression), e);
+            return null;
+        }
+    }
+
+    /**
+     * @return number of lookups that found a compiled filter
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return number of lookups that required compilation
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return number of cached expressions
+     */
+    public int getSize() {
+        synchronized (filters) {
+            return filters.size();
+        }
+    }
+
+    /**
+     * Drops all cached expressions.
+     */
+    public void clear() {
+        synchronized (filters) {
+            filters.clear();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "%s: size=%d, hit=%d, miss=%d", getClass().getSimpleName(), getSize(), getHitCount(), getMissCount());
+    }
+
+    private static class CompiledFilter {
+        @Nonnull
+        private final String expression;
+
+        @CheckForNull
+        final SimpleCombinationFilter simple;
+
+        private boolean compiled = false;
+
+        /**
+         * {@code null} if the expression should be evaluated by matrix-project.
+         */
+        @CheckForNull
+        private Class<? extends Script> scriptClass;
+
+        CompiledFilter(@Nonnull String expression, @CheckForNull SimpleCombinationFilter simple) {
+            this.expression = expression;
+            this.simple = simple;
+        }
+
+        /**
+         * Compiles the expression for the first call.
+         * Simple expressions are usually never compiled.
+         *
+         * @return compiled script, or {@code null} if the expression should be evaluated by matrix-project.
+         */
+        @CheckForNull
+        synchronized Class<? extends Script> getScriptClass() {
+            if (!compiled) {
+                scriptClass = compile(expression);
+                compiled = true;
+            }
+            return scriptClass;
+        }
+
+        synchronized void disable() {
+            compiled = true;
+            scriptClass = null;
+        }
+    }
+}
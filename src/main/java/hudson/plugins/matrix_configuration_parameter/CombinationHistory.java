@@ -0,0 +1,619 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixProject;
+import hudson.matrix.MatrixRun;
+import hudson.model.Result;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import jenkins.util.SystemProperties;
+import jenkins.util.Timer;
+
+/**
+ * Recent results of each combination of a project,
+ * so that shortcuts can look back over builds without loading their runs.
+ *
+ * Kept in {@value #FILENAME} in the directory of the project.
+ * The file is a sequence of records appended as builds complete:
+ * <pre>
+ * file   := MAGIC VERSION record*
+ * record := buildNumber:int count:int (id:int [name:utf] code:byte duration:long){count}
+ * </pre>
+ * where {@code id} numbers combinations in the order of appearance in the file
+ * and {@code name} follows only the first appearance of the id.
+ * Combinations are identified with {@link Combination#toString()}, which doesn't depend on the order of axes.
+ * Codes are ones of {@link CombinationResultsAction}.
+ *
+ * Only the latest {@link #DEPTH} entries are kept for each combination,
+ * and the file is rewritten once it holds more entries than kept.
+ * Without the file, it is rebuilt from the latest {@link #REBUILD_DEPTH} completed builds in background.
+ */
+public final class CombinationHistory {
+    private static final Logger LOGGER = Logger.getLogger(CombinationHistory.class.getName());
+
+    static final String FILENAME = "matrix-combinations-history.bin";
+
+    private static final int MAGIC = 0x4d434848;
+
+    private static final int VERSION = 1;
+
+    private static final int DEFAULT_DEPTH = 32;
+
+    /**
+     * Number of entries kept for each combination.
+     */
+    public static final int DEPTH =
+            SystemProperties.getInteger(CombinationHistory.class.getName() + ".depth", DEFAULT_DEPTH);
+
+    /**
+     * Number of the latest completed builds read to rebuild the history,
+     * as reading builds without summaries loads all of their runs.
+     */
+    static int REBUILD_DEPTH =
+            SystemProperties.getInteger(CombinationHistory.class.getName() + ".rebuildDepth", DEPTH);
+
+    /**
+     * Histories don't refer projects, so that histories of deleted projects are collected.
+     */
+    private static final Map<MatrixProject, CombinationHistory> HISTORIES = new WeakHashMap<>();
+
+    /**
+     * Combination to entries, newest first.
+     */
+    @Nonnull
+    private final Map<String, List<Entry>> entries = new HashMap<>();
+
+    /**
+     * Numbers of recorded builds.
+     */
+    @Nonnull
+    private final BitSet builds = new BitSet();
+
+    /**
+     * Combination to the id in the file.
+     */
+    @Nonnull
+    private final Map<String, Integer> ids = new HashMap<>();
+
+    @Nonnull
+    private final CountDownLatch loaded = new CountDownLatch(1);
+
+    /**
+     * Number of entries in the file.
+     */
+    private int entriesInFile;
+
+    /**
+     * Whether builds are recorded only in memory while loading, and the file is to be rewritten once loaded.
+     */
+    private boolean recordedWhileLoading;
+
+    private CombinationHistory() {}
+
+    /**
+     * Loads the history at the first call for the project.
+     * If the project has no history file, it is rebuilt in background
+     * and the returned history is filled as builds are read.
+     *
+     * @param project project
+     * @return the history of the project
+     */
+    @Nonnull
+    public static CombinationHistory of(@Nonnull MatrixProject project) {
+        CombinationHistory history;
+        synchronized (HISTORIES) {
+            history = HISTORIES.get(project);
+            if (history != null) {
+                return history;
+            }
+            history = new CombinationHistory();
+            HISTORIES.put(project, history);
+        }
+        history.load(project);
+        return history;
+    }
+
+    /**
+     * Forgets loaded histories. Files are left.
+     */
+    static void clear() {
+        synchronized (HISTORIES) {
+            HISTORIES.clear();
+        }
+    }
+
+    @Nonnull
+    private static File getFile(@Nonnull MatrixProject project) {
+        return new File(project.getRootDir(), FILENAME);
+    }
+
+    private void load(@Nonnull final MatrixProject project) {
+        File file = getFile(project);
+        if (file.exists()) {
+            synchronized (this) {
+                try {
+                    int entriesRead = read(project, file);
+                    if (entriesRead > countEntries() || recordedWhileLoading) {
+                        write(project);
+                    }
+                    recordedWhileLoading = false;
+                    loaded.countDown();
+                    return;
+                } catch (IOException e) {
+                    LOGGER.log(
+                            Level.WARNING,
+                            String.format("Failed to read the history of %s. Rebuilding.", project.getFullName()),
+                            e);
+                }
+            }
+        }
+        Timer.get().submit(new Runnable() {
+            @Override
+            public void run() {
+                rebuild(project);
+            }
+        });
+    }
+
+    /**
+     * @return number of entries read
+     */
+    private int read(@Nonnull MatrixProject project, @Nonnull File file) throws IOException {
+        int count = 0;
+        List<String> names = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException(String.format("Unsupported history file: %s", file));
+            }
+            while (true) {
+                int buildNumber;
+                try {
+                    buildNumber = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                int size = in.readInt();
+                Map<String, Entry> record = new HashMap<>();
+                for (int i = 0; i < size; ++i) {
+                    int id = in.readInt();
+                    if (id == names.size()) {
+                        names.add(in.readUTF());
+                    } else if (id < 0 || id > names.size()) {
+                        throw new IOException(String.format("Malformed history file: %s", file));
+                    }
+                    char code = (char) in.readByte();
+                    long duration = in.readLong();
+                    record.put(
+                            names.get(id), new Entry(buildNumber, CombinationResultsAction.fromCode(code), duration));
+                }
+                if (!builds.get(buildNumber)) {
+                    // not recorded while loading
+                    add(buildNumber, record);
+                }
+                count += size;
+            }
+        } catch (EOFException e) {
+            // the last record is truncated, for example, by a crash.
+            // it will be dropped by rewriting the file.
+            LOGGER.log(Level.WARNING, String.format("Truncated history of %s", project.getFullName()));
+            return Integer.MAX_VALUE;
+        }
+        for (int i = 0; i < names.size(); ++i) {
+            ids.put(names.get(i), i);
+        }
+        entriesInFile = count;
+        return count;
+    }
+
+    private void rebuild(@Nonnull MatrixProject project) {
+        boolean rebuilt = false;
+        try {
+            int completed = 0;
+            for (MatrixBuild build : project.getBuilds()) {
+                if (build.isBuilding()) {
+                    continue;
+                }
+                if (completed++ >= REBUILD_DEPTH) {
+                    // entries of older builds would mostly be dropped beyond DEPTH anyway
+                    break;
+                }
+                synchronized (this) {
+                    if (builds.get(build.getNumber())) {
+                        continue;
+                    }
+                }
+                Map<String, Entry> record = collect(build);
+                synchronized (this) {
+                    add(build.getNumber(), record);
+                }
+            }
+            rebuilt = true;
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, String.format("Failed to rebuild the history of %s", project.getFullName()), e);
+        } finally {
+            synchronized (this) {
+                // also writes builds recorded while rebuilding,
+                // and no builds are recorded between writing and marking loaded.
+                if (rebuilt) {
+                    try {
+                        write(project);
+                    } catch (IOException e) {
+                        LOGGER.log(
+                                Level.WARNING,
+                                String.format("Failed to write the history of %s", project.getFullName()),
+                                e);
+                    }
+                }
+                recordedWhileLoading = false;
+                loaded.countDown();
+            }
+        }
+    }
+
+    /**
+     * @return entries of runs of the build
+     */
+    @Nonnull
+    private static Map<String, Entry> collect(@Nonnull MatrixBuild build) {
+        Map<String, Entry> record = new HashMap<>();
+        CombinationResultsAction summary = CombinationResultsAction.of(build);
+        if (summary != null) {
+            AxisList axes = build.getParent().getAxes();
+            BitSet indices = summary.getRunIndices(true);
+            for (int i = indices.nextSetBit(0); i >= 0; i = indices.nextSetBit(i + 1)) {
+                record.put(
+                        CombinationIndex.combinationAt(axes, i).toString(),
+                        new Entry(build.getNumber(), summary.getResult(i), summary.getDuration(i)));
+            }
+            return record;
+        }
+        for (MatrixRun run : build.getExactRuns()) {
+            record.put(
+                    run.getParent().getCombination().toString(),
+                    new Entry(build.getNumber(), run.getResult(), run.getDuration()));
+        }
+        return record;
+    }
+
+    /**
+     * Records runs of a completed build.
+     * Does nothing if the build is already recorded.
+     *
+     * @param build completed build
+     */
+    public void record(@Nonnull MatrixBuild build) {
+        Map<String, Entry> record = collect(build);
+        synchronized (this) {
+            if (builds.get(build.getNumber())) {
+                return;
+            }
+            add(build.getNumber(), record);
+            if (!isLoaded()) {
+                // written when loaded
+                recordedWhileLoading = true;
+                return;
+            }
+            try {
+                if (entriesInFile > 2 * countEntries() || !getFile(build.getParent()).exists()) {
+                    // also when failed to rebuild
+                    write(build.getParent());
+                } else {
+                    append(build.getParent(), build.getNumber(), record);
+                }
+            } catch (IOException e) {
+                LOGGER.log(
+                        Level.WARNING,
+                        String.format("Failed to record the history of %s", build.getFullDisplayName()),
+                        e);
+            }
+        }
+    }
+
+    private void add(int buildNumber, @Nonnull Map<String, Entry> record) {
+        builds.set(buildNumber);
+        for (Map.Entry<String, Entry> e : record.entrySet()) {
+            List<Entry> list = entries.get(e.getKey());
+            if (list == null) {
+                list = new ArrayList<>();
+                entries.put(e.getKey(), list);
+            }
+            // builds may be added out of order while rebuilding
+            int pos = 0;
+            while (pos < list.size() && list.get(pos).getBuildNumber() > buildNumber) {
+                ++pos;
+            }
+            list.add(pos, e.getValue());
+            if (list.size() > DEPTH) {
+                list.remove(list.size() - 1);
+            }
+        }
+    }
+
+    private int countEntries() {
+        int count = 0;
+        for (List<Entry> list : entries.values()) {
+            count += list.size();
+        }
+        return count;
+    }
+
+    private void append(@Nonnull MatrixProject project, int buildNumber, @Nonnull Map<String, Entry> record)
+            throws IOException {
+        try (DataOutputStream out =
+                new DataOutputStream(new BufferedOutputStream(new FileOutputStream(getFile(project), true)))) {
+            writeRecord(out, buildNumber, record);
+        }
+    }
+
+    /**
+     * Rewrites the file with entries in memory.
+     */
+    private void write(@Nonnull MatrixProject project) throws IOException {
+        Map<Integer, Map<String, Entry>> records = new TreeMap<>();
+        for (Map.Entry<String, List<Entry>> e : entries.entrySet()) {
+            for (Entry entry : e.getValue()) {
+                Map<String, Entry> record = records.get(entry.getBuildNumber());
+                if (record == null) {
+                    record = new HashMap<>();
+                    records.put(entry.getBuildNumber(), record);
+                }
+                record.put(e.getKey(), entry);
+            }
+        }
+        ids.clear();
+        entriesInFile = 0;
+        File file = getFile(project);
+        File tmp = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            for (Map.Entry<Integer, Map<String, Entry>> e : records.entrySet()) {
+                writeRecord(out, e.getKey(), e.getValue());
+            }
+        }
+        Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void writeRecord(@Nonnull DataOutputStream out, int buildNumber, @Nonnull Map<String, Entry> record)
+            throws IOException {
+        out.writeInt(buildNumber);
+        out.writeInt(record.size());
+        for (Map.Entry<String, Entry> e : record.entrySet()) {
+            Integer id = ids.get(e.getKey());
+            if (id == null) {
+                id = ids.size();
+                ids.put(e.getKey(), id);
+                out.writeInt(id);
+                out.writeUTF(e.getKey());
+            } else {
+                out.writeInt(id);
+            }
+            out.writeByte(CombinationResultsAction.toCode(e.getValue().getResult()));
+            out.writeLong(e.getValue().getDuration());
+        }
+        entriesInFile += record.size();
+    }
+
+    /**
+     * @return whether the history is read or rebuilt
+     */
+    public boolean isLoaded() {
+        return loaded.getCount() == 0;
+    }
+
+    /**
+     * @param timeout timeout
+     * @param unit unit of the timeout
+     * @return whether the history is loaded
+     * @throws InterruptedException interrupted
+     */
+    public boolean waitForLoaded(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+        return loaded.await(timeout, unit);
+    }
+
+    /**
+     * @param combination combination
+     * @return latest entries of the combination, newest first.
+     */
+    @Nonnull
+    public synchronized List<Entry> getEntries(@Nonnull Combination combination) {
+        List<Entry> list = entries.get(combination.toString());
+        return (list != null) ? new ArrayList<>(list) : Collections.<Entry>emptyList();
+    }
+
+    /**
+     * @param combination combination
+     * @return the latest entry of the combination, or {@code null} if it has never run.
+     */
+    @CheckForNull
+    public synchronized Entry getLatest(@Nonnull Combination combination) {
+        List<Entry> list = entries.get(combination.toString());
+        return (list != null && !list.isEmpty()) ? list.get(0) : null;
+    }
+
+    /**
+     * @param combination combination
+     * @return average duration of recorded runs of the combination in milliseconds,
+     *     or {@code -1} if it has never run.
+     */
+    public synchronized long getEstimatedDuration(@Nonnull Combination combination) {
+        List<Entry> list = entries.get(combination.toString());
+        if (list == null || list.isEmpty()) {
+            return -1;
+        }
+        long total = 0;
+        for (Entry entry : list) {
+            total += entry.getDuration();
+        }
+        return total / list.size();
+    }
+
+    /**
+     * Counts how many times the result of the combination flipped between success and failure,
+     * where {@link Result#UNSTABLE} is also a failure and other results are ignored.
+     *
+     * @param combination combination
+     * @param sinceBuildNumber entries of older builds are ignored
+     * @return number of flips
+     */
+    public synchronized int countFlips(@Nonnull Combination combination, int sinceBuildNumber) {
+        List<Entry> list = entries.get(combination.toString());
+        if (list == null) {
+            return 0;
+        }
+        int flips = 0;
+        Boolean last = null;
+        for (Entry entry : list) {
+            if (entry.getBuildNumber() < sinceBuildNumber) {
+                break;
+            }
+            Result result = entry.getResult();
+            if (result != Result.SUCCESS && result != Result.UNSTABLE && result != Result.FAILURE) {
+                continue;
+            }
+            boolean success = result == Result.SUCCESS;
+            if (last != null && last != success) {
+                ++flips;
+            }
+            last = success;
+        }
+        return flips;
+    }
+
+    /**
+     * @param count number of builds
+     * @return the number of the oldest of the latest {@code count} recorded builds,
+     *     or {@code 0} if less builds are recorded.
+     */
+    public synchronized int getBuildNumberSince(int count) {
+        int number = builds.length();
+        for (int i = 0; i < count; ++i) {
+            number = builds.previousSetBit(number - 1);
+            if (number < 0) {
+                return 0;
+            }
+        }
+        return number;
+    }
+
+    /**
+     * Tests combinations in the axes,
+     * for example, {@code getIndices(axes, 20, Collections.singleton(Result.FAILURE))}
+     * for combinations failed in any of the last 20 builds.
+     *
+     * @param axes axes
+     * @param count number of builds to look back
+     * @param results results to test
+     * @return indices of combinations run with any of results in the latest {@code count} builds
+     */
+    @Nonnull
+    public synchronized BitSet getIndices(@Nonnull AxisList axes, int count, @Nonnull Collection<Result> results) {
+        int since = getBuildNumberSince(count);
+        BitSet indices = new BitSet();
+        for (Map.Entry<String, List<Entry>> e : entries.entrySet()) {
+            for (Entry entry : e.getValue()) {
+                if (entry.getBuildNumber() < since) {
+                    break;
+                }
+                if (results.contains(entry.getResult())) {
+                    int index = CombinationIndex.indexOf(axes, e.getKey());
+                    if (index >= 0) {
+                        indices.set(index);
+                    }
+                    break;
+                }
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * A run of a combination.
+     */
+    public static final class Entry {
+        private final int buildNumber;
+
+        @CheckForNull
+        private final Result result;
+
+        private final long duration;
+
+        Entry(int buildNumber, @CheckForNull Result result, long duration) {
+            this.buildNumber = buildNumber;
+            this.result = result;
+            this.duration = duration;
+        }
+
+        /**
+         * @return the number of the build
+         */
+        public int getBuildNumber() {
+            return buildNumber;
+        }
+
+        /**
+         * @return the result of the run
+         */
+        @CheckForNull
+        public Result getResult() {
+            return result;
+        }
+
+        /**
+         * @return the duration of the run in milliseconds
+         */
+        public long getDuration() {
+            return duration;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import hudson.matrix.Axis;
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import java.util.BitSet;
+import java.util.Map;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * Utilities to handle combinations as indices in the space of axes,
+ * which is the same as {@link Combination#toIndex(AxisList)}.
+ */
+public final class CombinationIndex {
+    private CombinationIndex() {}
+
+    /**
+     * Unlike {@link Combination#toIndex(AxisList)},
+     * this returns {@code -1} for combinations out of the axes
+     * rather than an index of another combination.
+     *
+     * @param axes axes
+     * @param c combination
+     * @return index of the combination, or {@code -1} if the combination doesn't belong to the axes.
+     */
+    public static int indexOf(@Nonnull AxisList axes, @Nonnull Map<String, String> c) {
+        if (c.size() != axes.size()) {
+            return -1;
+        }
+        int index = 0;
+        for (Axis axis : axes) {
+            int i = axis.indexOf(c.get(axis.getName()));
+            if (i < 0) {
+                return -1;
+            }
+            index = index * axis.size() + i;
+        }
+        return index;
+    }
+
+    /**
+     * @param axes axes
+     * @param combination string representation of a combination
+     * @return index of the combination, or {@code -1} if the combination doesn't belong to the axes.
+     */
+    public static int indexOf(@Nonnull AxisList axes, @CheckForNull String combination) {
+        Combination c = parse(combination);
+        return (c != null) ? indexOf(axes, c) : -1;
+    }
+
+    /**
+     * @param combination string representation of a combination
+     * @return the combination, or {@code null} if the string is not the canonical form of a combination.
+     */
+    @CheckForNull
+    public static Combination parse(@CheckForNull String combination) {
+        if (combination == null || combination.isEmpty()) {
+            return null;
+        }
+        Combination c;
+        try {
+            c = Combination.fromString(combination);
+        } catch (RuntimeException e) {
+            return null;
+        }
+        // reject ones like "b=2,a=1", which are never equal to Combination#toString()
+        return combination.equals(c.toString()) ? c : null;
+    }
+
+    /**
+     * @param axes axes
+     * @return number of combinations in the axes
+     */
+    public static int size(@Nonnull AxisList axes) {
+        long size = 1;
+        for (Axis axis : axes) {
+            size *= axis.size();
+            if (size > Integer.MAX_VALUE) {
+                return Integer.MAX_VALUE;
+            }
+        }
+        return (int) size;
+    }
+
+    /**
+     * @param axes axes
+     * @param index index of a combination
+     * @return the combination at that index
+     */
+    @Nonnull
+    public static Combination combinationAt(@Nonnull AxisList axes, int index) {
+        String[] values = new String[axes.size()];
+        for (int i = axes.size() - 1; i >= 0; --i) {
+            Axis axis = axes.get(i);
+            values[i] = axis.value(index % axis.size());
+            index /= axis.size();
+        }
+        return new Combination(axes, values);
+    }
+
+    /**
+     * @param axes axes
+     * @param combinations string representations of combinations
+     * @return indices of combinations. Ones not in the axes are ignored.
+     */
+    @Nonnull
+    public static BitSet toBitSet(@Nonnull AxisList axes, @Nonnull Iterable<String> combinations) {
+        BitSet bits = new BitSet();
+        for (String combination : combinations) {
+            int index = indexOf(axes, combination);
+            if (index >= 0) {
+                bits.set(index);
+            }
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import hudson.Extension;
+import hudson.Util;
+import hudson.matrix.AxisList;
+import hudson.matrix.MatrixConfiguration;
+import hudson.matrix.MatrixProject;
+import hudson.model.AbstractDescribableImpl;
+import hudson.model.Descriptor;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import org.apache.commons.lang.StringUtils;
+import org.kohsuke.stapler.DataBoundConstructor;
+
+/**
+ * A named selection of combinations defined in {@link MatrixCombinationsParameterDefinition},
+ * like "smoke" or "release gate".
+ *
+ * The filter is evaluated when the project is saved and the result is stored
+ * in the same form as {@link MatrixCombinationsParameterValue},
+ * together with the axes it was evaluated for.
+ * Applying the preset then doesn't evaluate the filter again
+ * until the axes or the combination filter of the project change.
+ *
+ * @since 1.3.4
+ */
+public class CombinationPreset extends AbstractDescribableImpl<CombinationPreset> {
+    private static final Logger LOGGER = Logger.getLogger(CombinationPreset.class.getName());
+
+    private final String name;
+    private final String combinationFilter;
+
+    /**
+     * Axes of the project the filter was evaluated for,
+     * in the form of {@link EncodedCombinations#formatAxes(AxisList)}.
+     * {@code null} if not evaluated yet.
+     */
+    @CheckForNull
+    private String projectAxes;
+
+    /**
+     * Combination filter of the project the filter was evaluated for,
+     * which decides active combinations without changing axes.
+     * {@code null} if not evaluated yet.
+     */
+    @CheckForNull
+    private String projectCombinationFilter;
+
+    /**
+     * @see EncodedCombinations#getAxes()
+     */
+    @CheckForNull
+    private String combinationAxes;
+
+    /**
+     * @see EncodedCombinations#getRuns()
+     */
+    @CheckForNull
+    private String combinationRuns;
+
+    @CheckForNull
+    private transient volatile CombinationSelection selection;
+
+    /**
+     * ctor
+     *
+     * @param name name of the preset
+     * @param combinationFilter filter expression to select combinations
+     */
+    @DataBoundConstructor
+    public CombinationPreset(String name, String combinationFilter) {
+        this.name = Util.fixNull(name).trim();
+        this.combinationFilter = Util.fixNull(combinationFilter);
+    }
+
+    /**
+     * @return name of the preset
+     */
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return filter expression to select combinations
+     */
+    @Nonnull
+    public String getCombinationFilter() {
+        return combinationFilter;
+    }
+
+    /**
+     * Evaluates the filter for active combinations of the project
+     * unless it is already evaluated for the current axes and combination filter of the project.
+     *
+     * @param project the project the preset is defined in
+     * @return {@code true} if evaluated and the project should be saved
+     */
+    public synchronized boolean update(@Nonnull MatrixProject project) {
+        AxisList axes = project.getAxes();
+        String signature = EncodedCombinations.formatAxes(axes);
+        String activeFilter = Util.fixNull(project.getCombinationFilter());
+        if (signature.equals(projectAxes) && activeFilter.equals(projectCombinationFilter) && getSelection() != null) {
+            return false;
+        }
+        BitSet indices = evaluate(project);
+        List<String> combinations = new ArrayList<>();
+        for (int i = indices.nextSetBit(0); i >= 0; i = indices.nextSetBit(i + 1)) {
+            combinations.add(CombinationIndex.combinationAt(axes, i).toString());
+        }
+        CombinationSelection newSelection = CombinationSelection.of(combinations);
+        EncodedCombinations encoded = newSelection.getEncoded();
+        combinationAxes = (encoded != null) ? encoded.getAxes() : null;
+        combinationRuns = (encoded != null) ? encoded.getRuns() : null;
+        projectAxes = signature;
+        projectCombinationFilter = activeFilter;
+        selection = newSelection;
+        return true;
+    }
+
+    /**
+     * Doesn't update the stored selection, which is saved with the project
+     * by {@link MatrixCombinationsParameterItemListener}.
+     *
+     * @param project the project the preset is defined in
+     * @return indices of combinations in the preset
+     */
+    @Nonnull
+    public BitSet getCombinationIndices(@Nonnull MatrixProject project) {
+        CombinationSelection s = getSelection(project);
+        // evaluated for each call until the project is saved
+        return (s != null) ? (BitSet) s.getIndices(project.getAxes()).clone() : evaluate(project);
+    }
+
+    /**
+     * @param project the project the preset is defined in
+     * @return the stored selection, or {@code null} if not evaluated for the current axes and combination filter.
+     */
+    @CheckForNull
+    private synchronized CombinationSelection getSelection(@Nonnull MatrixProject project) {
+        if (!EncodedCombinations.formatAxes(project.getAxes()).equals(projectAxes)
+                || !Util.fixNull(project.getCombinationFilter()).equals(projectCombinationFilter)) {
+            return null;
+        }
+        return getSelection();
+    }
+
+    /**
+     * @return indices of active combinations of the project matching the filter
+     */
+    @Nonnull
+    private BitSet evaluate(@Nonnull MatrixProject project) {
+        AxisList axes = project.getAxes();
+        BitSet indices = new BitSet();
+        for (MatrixConfiguration c : project.getActiveConfigurations()) {
+            int index = CombinationIndex.indexOf(axes, c.getCombination());
+            if (index >= 0 && CombinationFilterCache.evaluate(axes, c.getCombination(), combinationFilter)) {
+                indices.set(index);
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * @return the stored selection, or {@code null} if not evaluated yet.
+     */
+    @CheckForNull
+    CombinationSelection getSelection() {
+        CombinationSelection s = selection;
+        if (s != null || projectAxes == null) {
+            return s;
+        }
+        if (combinationRuns == null) {
+            s = CombinationSelection.of(null);
+        } else {
+            try {
+                s = CombinationSelection.decode(
+                        new EncodedCombinations(StringUtils.defaultString(combinationAxes), combinationRuns));
+            } catch (IllegalArgumentException e) {
+                LOGGER.log(Level.WARNING, String.format("Ignored malformed combinations of preset %s", getName()), e);
+                return null;
+            }
+        }
+        selection = s;
+        return s;
+    }
+
+    /**
+     * Creates a value selecting the stored combinations.
+     * Falls back to evaluating the filter when the build starts if not evaluated yet.
+     *
+     * @param parameterName name of the parameter
+     * @param description description of the parameter
+     * @return value for the preset
+     */
+    @Nonnull
+    MatrixCombinationsParameterValue createValue(@Nonnull String parameterName, String description) {
+        CombinationSelection s = getSelection();
+        if (s == null) {
+            return new DefaultMatrixCombinationsParameterValue(parameterName, description, getCombinationFilter());
+        }
+        return new MatrixCombinationsParameterValue(parameterName, description, s);
+    }
+
+    /**
+     * Descriptor for {@link CombinationPreset}
+     */
+    @Extension
+    public static class DescriptorImpl extends Descriptor<CombinationPreset> {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getDisplayName() {
+            return Messages.CombinationPreset_DisplayName();
+        }
+    }
+}
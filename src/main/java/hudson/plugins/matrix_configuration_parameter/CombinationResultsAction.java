@@ -0,0 +1,412 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixConfiguration;
+import hudson.matrix.MatrixRun;
+import hudson.model.BallColor;
+import hudson.model.InvisibleAction;
+import hudson.model.Result;
+import hudson.model.Run;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import jenkins.model.RunAction2;
+import jenkins.util.SystemProperties;
+
+/**
+ * Summary of results of configurations, recorded to a {@link MatrixBuild} when it completes.
+ *
+ * Shortcuts and build pages refer this instead of loading every {@link MatrixRun}.
+ * Results are stored for each index of the axes at the completion:
+ * <dl>
+ *     <dt>axes</dt>
+ *     <dd>axes of the project, in the same format as {@link EncodedCombinations#getAxes()}.
+ *         The summary is ignored once axes are changed.</dd>
+ *     <dt>results</dt>
+ *     <dd>run-length encoded codes of results like {@code S3-2F1s1}.
+ *         {@code S}, {@code U}, {@code F}, {@code N}, {@code A} are for results of runs of the build,
+ *         {@code X} for a run without result, and lower cases for the latest runs of earlier builds.
+ *         {@code -} is for configurations without runs.</dd>
+ *     <dt>durations</dt>
+ *     <dd>durations of runs of the build in milliseconds in the order of indices, joined with {@code ,}.</dd>
+ * </dl>
+ */
+public class CombinationResultsAction extends InvisibleAction implements RunAction2 {
+    private static final Logger LOGGER = Logger.getLogger(CombinationResultsAction.class.getName());
+
+    private static final int DEFAULT_MAX_COMBINATIONS = 100000;
+
+    /**
+     * Summaries are not recorded for axes with more combinations than this,
+     * as the space of axes rather than the number of runs determines the cost to decode them.
+     */
+    private static final int MAX_COMBINATIONS = SystemProperties.getInteger(
+            CombinationResultsAction.class.getName() + ".maxCombinations", DEFAULT_MAX_COMBINATIONS);
+
+    private static final Result[] RESULTS = {
+        Result.SUCCESS, Result.UNSTABLE, Result.FAILURE, Result.NOT_BUILT, Result.ABORTED,
+    };
+
+    private static final String CODES = "SUFNA";
+
+    private static final char NO_RESULT = 'X';
+
+    private static final char NO_RUN = '-';
+
+    @Nonnull
+    private final String axes;
+
+    @Nonnull
+    private final String results;
+
+    @Nonnull
+    private final String durations;
+
+    @CheckForNull
+    private transient MatrixBuild build;
+
+    @CheckForNull
+    private transient Decoded decoded;
+
+    CombinationResultsAction(@Nonnull String axes, @Nonnull String results, @Nonnull String durations) {
+        this.axes = axes;
+        this.results = results;
+        this.durations = durations;
+    }
+
+    /**
+     * Records the summary of a completed build.
+     *
+     * @param build the build
+     * @return the summary, or {@code null} if axes are too large to record.
+     */
+    @CheckForNull
+    static CombinationResultsAction record(@Nonnull MatrixBuild build) {
+        AxisList axes = build.getParent().getAxes();
+        int size = CombinationIndex.size(axes);
+        if (size > MAX_COMBINATIONS) {
+            return null;
+        }
+        char[] codes = new char[size];
+        Arrays.fill(codes, NO_RUN);
+        Map<Integer, Long> durations = new TreeMap<>();
+        for (MatrixRun run : build.getRuns()) {
+            int index = CombinationIndex.indexOf(axes, run.getParent().getCombination());
+            if (index < 0) {
+                continue;
+            }
+            boolean exact = run.getNumber() == build.getNumber();
+            char code = toCode(run.getResult());
+            codes[index] = exact ? code : Character.toLowerCase(code);
+            if (exact) {
+                durations.put(index, run.getDuration());
+            }
+        }
+
+        StringBuilder results = new StringBuilder();
+        for (int i = 0; i < size; ) {
+            int start = i;
+            while (i < size && codes[i] == codes[start]) {
+                ++i;
+            }
+            results.append(codes[start]).append(i - start);
+        }
+        StringBuilder sb = new StringBuilder();
+        for (long duration : durations.values()) {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(duration);
+        }
+        return new CombinationResultsAction(
+                EncodedCombinations.formatAxes(axes), results.toString(), sb.toString());
+    }
+
+    /**
+     * Use this rather than {@link MatrixBuild#getAction(Class)},
+     * as methods of the summary expect that it is for the current axes and is well-formed.
+     *
+     * @param build a build
+     * @return the summary of the build, or {@code null} if not recorded, malformed or axes are changed since.
+     */
+    @CheckForNull
+    public static CombinationResultsAction of(@Nonnull MatrixBuild build) {
+        CombinationResultsAction action = build.getAction(CombinationResultsAction.class);
+        if (action == null || !action.isFor(build.getParent().getAxes())) {
+            return null;
+        }
+        try {
+            action.getDecoded();
+        } catch (IllegalArgumentException e) {
+            LOGGER.log(Level.WARNING, String.format("Ignored malformed summary of %s", build.getFullDisplayName()), e);
+            return null;
+        }
+        return action;
+    }
+
+    /**
+     * @param axes axes
+     * @return whether indices of this summary are ones of the axes
+     */
+    public boolean isFor(@Nonnull AxisList axes) {
+        return this.axes.equals(EncodedCombinations.formatAxes(axes));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onAttached(Run<?, ?> r) {
+        if (r instanceof MatrixBuild) {
+            build = (MatrixBuild) r;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onLoad(Run<?, ?> r) {
+        onAttached(r);
+    }
+
+    /**
+     * @return run-length encoded codes of results
+     */
+    @Nonnull
+    String getResults() {
+        return results;
+    }
+
+    /**
+     * @param exact whether to test runs of the build only, or also the latest runs of other configurations.
+     * @return indices of combinations with runs. Must not be modified.
+     */
+    @Nonnull
+    public BitSet getRunIndices(boolean exact) {
+        return getDecoded().runs(exact).all;
+    }
+
+    /**
+     * @param exact whether to test runs of the build only, or also the latest runs of other configurations.
+     * @param results results to test
+     * @return indices of combinations with runs of any of the results
+     */
+    @Nonnull
+    public BitSet getResultIndices(boolean exact, @Nonnull Collection<Result> results) {
+        Runs runs = getDecoded().runs(exact);
+        BitSet indices = new BitSet();
+        for (Result result : results) {
+            BitSet resultIndices = runs.byResult.get(result);
+            if (resultIndices != null) {
+                indices.or(resultIndices);
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * @param index index of a combination
+     * @return duration of the run of the build in milliseconds, or {@code -1} if the build has no run for it.
+     */
+    public long getDuration(int index) {
+        Long duration = getDecoded().durations.get(index);
+        return (duration != null) ? duration : -1;
+    }
+
+    /**
+     * @param index index of a combination
+     * @return the result of the run of the build for the combination,
+     *     or {@code null} if the build has no run for it or the run has no result.
+     */
+    @CheckForNull
+    public Result getResult(int index) {
+        Character code = getDecoded().exactCodes.get(index);
+        return (code != null) ? fromCode(code) : null;
+    }
+
+    /**
+     * @param c combination
+     * @return the color of the run of the build for the combination, or {@code null} if the build has no run for it.
+     */
+    @CheckForNull
+    public BallColor getIconColor(@Nonnull Combination c) {
+        Character code = getExactCode(c);
+        if (code == null) {
+            return null;
+        }
+        Result result = fromCode(code);
+        return (result != null) ? result.color : BallColor.NOTBUILT;
+    }
+
+    /**
+     * Same as {@link MatrixRun#getUrl()} without loading the run.
+     *
+     * @param c combination
+     * @return the url of the run of the build for the combination, or {@code null} if the build has no run for it.
+     */
+    @CheckForNull
+    public String getRunUrl(@Nonnull Combination c) {
+        MatrixBuild build = this.build;
+        if (build == null || getExactCode(c) == null) {
+            return null;
+        }
+        MatrixConfiguration configuration = build.getParent().getItem(c);
+        if (configuration == null) {
+            return null;
+        }
+        return String.format("%s%d/", configuration.getUrl(), build.getNumber());
+    }
+
+    @CheckForNull
+    private Character getExactCode(@Nonnull Combination c) {
+        MatrixBuild build = this.build;
+        if (build == null) {
+            return null;
+        }
+        int index = CombinationIndex.indexOf(build.getParent().getAxes(), c);
+        return (index >= 0) ? getDecoded().exactCodes.get(index) : null;
+    }
+
+    /**
+     * @param result result of a run
+     * @return the code for the result of a run of the build
+     */
+    static char toCode(@CheckForNull Result result) {
+        for (int i = 0; i < RESULTS.length; ++i) {
+            if (RESULTS[i] == result) {
+                return CODES.charAt(i);
+            }
+        }
+        return NO_RESULT;
+    }
+
+    /**
+     * @param code code of a result
+     * @return the result, or {@code null} for a run without result.
+     */
+    @CheckForNull
+    static Result fromCode(char code) {
+        int i = CODES.indexOf(Character.toUpperCase(code));
+        return (i >= 0) ? RESULTS[i] : null;
+    }
+
+    @Nonnull
+    private synchronized Decoded getDecoded() {
+        if (decoded == null) {
+            decoded = new Decoded(results, durations);
+        }
+        return decoded;
+    }
+
+    private static class Runs {
+        @Nonnull
+        final BitSet all = new BitSet();
+
+        @Nonnull
+        final Map<Result, BitSet> byResult = new HashMap<>();
+
+        void add(int index, @CheckForNull Result result) {
+            all.set(index);
+            if (result == null) {
+                return;
+            }
+            BitSet indices = byResult.get(result);
+            if (indices == null) {
+                indices = new BitSet();
+                byResult.put(result, indices);
+            }
+            indices.set(index);
+        }
+    }
+
+    private static class Decoded {
+        @Nonnull
+        final Runs exactRuns = new Runs();
+
+        @Nonnull
+        final Runs runs = new Runs();
+
+        @Nonnull
+        final Map<Integer, Character> exactCodes = new HashMap<>();
+
+        @Nonnull
+        final Map<Integer, Long> durations = new HashMap<>();
+
+        Decoded(@Nonnull String results, @Nonnull String durations) {
+            int index = 0;
+            int pos = 0;
+            while (pos < results.length()) {
+                char code = results.charAt(pos++);
+                int start = pos;
+                while (pos < results.length() && Character.isDigit(results.charAt(pos))) {
+                    ++pos;
+                }
+                if (start == pos) {
+                    throw new IllegalArgumentException("Malformed results: " + results);
+                }
+                int length = Integer.parseInt(results.substring(start, pos));
+                if (code != NO_RUN) {
+                    boolean exact = !Character.isLowerCase(code);
+                    Result result = fromCode(code);
+                    for (int i = index; i < index + length; ++i) {
+                        runs.add(i, result);
+                        if (exact) {
+                            exactRuns.add(i, result);
+                            exactCodes.put(i, code);
+                        }
+                    }
+                }
+                index += length;
+            }
+
+            String[] values = durations.isEmpty() ? new String[0] : durations.split(",", -1);
+            if (values.length != exactRuns.all.cardinality()) {
+                throw new IllegalArgumentException("Malformed durations: " + durations);
+            }
+            int i = exactRuns.all.nextSetBit(0);
+            for (String value : values) {
+                this.durations.put(i, Long.parseLong(value));
+                i = exactRuns.all.nextSetBit(i + 1);
+            }
+        }
+
+        @Nonnull
+        Runs runs(boolean exact) {
+            return exact ? exactRuns : runs;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import hudson.matrix.AxisList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * Immutable list of selected combinations shared by {@link MatrixCombinationsParameterValue}s
+ * selecting the same combinations.
+ *
+ * Builds tend to select the same few sets of combinations,
+ * so values created or loaded are interned and refer to the same instance,
+ * which also shares lookup structures and the encoded form.
+ * Instances are weakly referenced from the pool and released when no value refers to them.
+ */
+final class CombinationSelection {
+    private static final Interner<CombinationSelection> POOL = Interners.newWeakInterner();
+
+    private static final CombinationSelection EMPTY = intern(ImmutableList.<String>of());
+
+    @Nonnull
+    private final ImmutableList<String> combinations;
+
+    private volatile boolean encoded;
+
+    @CheckForNull
+    private volatile EncodedCombinations encodedCombinations;
+
+    /**
+     * @see CombinationExpression#of(java.util.Collection)
+     */
+    @CheckForNull
+    private volatile String expression;
+
+    /**
+     * @see CombinationExpression#minimize(java.util.Collection)
+     */
+    @CheckForNull
+    private volatile String minimizedExpression;
+
+    /**
+     * {@link #combinations} as a set, for queries without axes.
+     */
+    @CheckForNull
+    private volatile Set<String> combinationSet;
+
+    /**
+     * Index of {@link #combinations} for the axes last queried.
+     */
+    @CheckForNull
+    private volatile SelectionIndex selectionIndex;
+
+    private CombinationSelection(@Nonnull ImmutableList<String> combinations) {
+        this.combinations = combinations;
+    }
+
+    /**
+     * @param combinations combinations. {@code null}s are ignored.
+     * @return the shared instance for the combinations
+     */
+    @Nonnull
+    static CombinationSelection of(@CheckForNull List<String> combinations) {
+        if (combinations == null || combinations.isEmpty()) {
+            return EMPTY;
+        }
+        ImmutableList.Builder<String> builder = ImmutableList.builder();
+        for (String combination : combinations) {
+            if (combination != null) {
+                builder.add(combination);
+            }
+        }
+        return intern(builder.build());
+    }
+
+    /**
+     * @param encodedCombinations combinations in the encoded form
+     * @return the shared instance for the combinations
+     * @throws IllegalArgumentException malformed data
+     */
+    @Nonnull
+    static CombinationSelection decode(@Nonnull EncodedCombinations encodedCombinations) {
+        CombinationSelection selection = intern(ImmutableList.copyOf(encodedCombinations.decode()));
+        if (!selection.encoded) {
+            // save encoding again
+            selection.encodedCombinations = encodedCombinations;
+            selection.encoded = true;
+        }
+        return selection;
+    }
+
+    @Nonnull
+    private static CombinationSelection intern(@Nonnull ImmutableList<String> combinations) {
+        return POOL.intern(new CombinationSelection(combinations));
+    }
+
+    @Nonnull
+    List<String> getCombinations() {
+        return combinations;
+    }
+
+    /**
+     * @return encoded form of combinations, or {@code null} if there are no combinations.
+     */
+    @CheckForNull
+    EncodedCombinations getEncoded() {
+        if (!encoded) {
+            // Racing threads may encode the same combinations. That's harmless.
+            encodedCombinations = EncodedCombinations.encode(combinations);
+            encoded = true;
+        }
+        return encodedCombinations;
+    }
+
+    /**
+     * @param minimized whether to factor out cartesian products
+     * @return Groovy expression matching combinations
+     */
+    @Nonnull
+    String getExpression(boolean minimized) {
+        // Racing threads may build the same expression. That's harmless.
+        if (minimized) {
+            String minimizedExpression = this.minimizedExpression;
+            if (minimizedExpression == null) {
+                minimizedExpression = CombinationExpression.minimize(combinations);
+                this.minimizedExpression = minimizedExpression;
+            }
+            return minimizedExpression;
+        }
+        String expression = this.expression;
+        if (expression == null) {
+            expression = CombinationExpression.of(combinations);
+            this.expression = expression;
+        }
+        return expression;
+    }
+
+    @Nonnull
+    Set<String> getCombinationSet() {
+        Set<String> combinationSet = this.combinationSet;
+        if (combinationSet == null) {
+            combinationSet = new HashSet<String>(combinations);
+            this.combinationSet = combinationSet;
+        }
+        return combinationSet;
+    }
+
+    /**
+     * @param axes axes
+     * @return indices of combinations in the axes. Must not be modified.
+     */
+    @Nonnull
+    BitSet getIndices(@Nonnull AxisList axes) {
+        SelectionIndex selectionIndex = this.selectionIndex;
+        if (selectionIndex != null && selectionIndex.axes == axes) {
+            return selectionIndex.bits;
+        }
+        // Selections are shared among projects and reloads of projects,
+        // which have different instances of the same axes.
+        String signature = EncodedCombinations.formatAxes(axes);
+        if (selectionIndex == null || !selectionIndex.signature.equals(signature)) {
+            // Racing threads may build the same index. That's harmless.
+            selectionIndex = new SelectionIndex(axes, signature, CombinationIndex.toBitSet(axes, combinations));
+        } else {
+            // Re-point to this instance so that later calls take the fast path.
+            selectionIndex = new SelectionIndex(axes, signature, selectionIndex.bits);
+        }
+        this.selectionIndex = selectionIndex;
+        return selectionIndex.bits;
+    }
+
+    @Override
+    public int hashCode() {
+        return combinations.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        return combinations.equals(((CombinationSelection) obj).combinations);
+    }
+
+    private static class SelectionIndex {
+        @Nonnull
+        final AxisList axes;
+
+        /**
+         * {@link EncodedCombinations#formatAxes(AxisList)} of {@link #axes}.
+         */
+        @Nonnull
+        final String signature;
+
+        @Nonnull
+        final BitSet bits;
+
+        SelectionIndex(@Nonnull AxisList axes, @Nonnull String signature, @Nonnull BitSet bits) {
+            this.axes = axes;
+            this.signature = signature;
+            this.bits = bits;
+        }
+    }
+}
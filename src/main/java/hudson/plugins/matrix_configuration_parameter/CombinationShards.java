@@ -0,0 +1,56 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import com.google.common.hash.Hashing;
+import hudson.matrix.Combination;
+import java.nio.charset.StandardCharsets;
+import javax.annotation.Nonnull;
+
+/**
+ * Splits combinations into stable shards.
+ *
+ * Combinations are assigned by the hash of {@link Combination#toString()},
+ * which is sorted by axis names, so that shards don't change
+ * when axes are reordered or other values are added.
+ */
+public final class CombinationShards {
+    private CombinationShards() {}
+
+    /**
+     * @param c combination
+     * @param shards number of shards
+     * @return the shard of the combination, from {@code 0} to {@code shards - 1}.
+     */
+    public static int shardOf(@Nonnull Combination c, int shards) {
+        if (shards <= 1) {
+            return 0;
+        }
+        int hash = Hashing.murmur3_32_fixed()
+                .hashString(c.toString(), StandardCharsets.UTF_8)
+                .asInt();
+        return Math.floorMod(hash, shards);
+    }
+}
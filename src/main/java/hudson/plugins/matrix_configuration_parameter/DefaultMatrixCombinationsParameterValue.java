@@ -24,25 +24,74 @@
 
 package hudson.plugins.matrix_configuration_parameter;
 
+import hudson.Util;
 import hudson.matrix.AxisList;
 import hudson.matrix.Combination;
+import hudson.matrix.MatrixBuild;
 import hudson.model.AbstractBuild;
+import hudson.model.ParameterValue;
+import hudson.model.ParametersAction;
 import hudson.util.VariableResolver;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
 
 /**
  * {@link MatrixCombinationsParameterValue} created when the build started
  * without specifying parameter.
  *
  * {@link MatrixCombinationsParameterValue#getCombinations()}
- * does not work (always return an empty list).
+ * does not work (always return an empty list)
+ * until the filter is evaluated with {@link #evaluateCombinationFilter(AxisList)}
+ * when the build starts.
  */
 public class DefaultMatrixCombinationsParameterValue extends MatrixCombinationsParameterValue {
     private static final long serialVersionUID = -812826069693143705L;
+
+    /**
+     * Builds started with explicit values are skipped up to this when selecting the next shard.
+     */
+    private static final int MAX_BUILDS_TO_LOOK_BACK = 100;
+
     private final String combinationFilter;
 
+    /**
+     * Whether {@link #combinationFilter} is already evaluated
+     * and the result is stored as {@link #getCombinations()}.
+     */
+    private boolean evaluated;
+
+    /**
+     * Number of shards to split combinations into. {@code 0} not to split.
+     */
+    private final int shards;
+
+    /**
+     * The shard selected when the build started. {@code null} if not selected,
+     * which is also the case for values from older versions.
+     */
+    @CheckForNull
+    private Integer shard;
+
     public DefaultMatrixCombinationsParameterValue(String name, String description, String combinationFilter) {
-        super(name, description, null);
+        this(name, description, combinationFilter, 0);
+    }
+
+    /**
+     * ctor
+     *
+     * @param name the name of the parameter
+     * @param description the description of the parameter
+     * @param combinationFilter combination filter
+     * @param shards number of shards to split combinations into. {@code 0} not to split.
+     * @since 1.3.4
+     */
+    public DefaultMatrixCombinationsParameterValue(
+            String name, String description, String combinationFilter, int shards) {
+        super(name, description, (List<String>) null);
         this.combinationFilter = combinationFilter;
+        this.shards = Math.max(shards, 0);
     }
 
     /**
@@ -53,8 +102,92 @@ public class DefaultMatrixCombinationsParameterValue extends MatrixCombinationsP
         return combinationFilter;
     }
 
+    /**
+     * @return whether the combination filter is evaluated and the result is available as {@link #getCombinations()}.
+     * @since 1.3.4
+     */
+    public boolean isEvaluated() {
+        return evaluated;
+    }
+
+    /**
+     * @return number of shards to split combinations into. {@code 0} not to split.
+     * @since 1.3.4
+     */
+    public int getShards() {
+        return shards;
+    }
+
+    /**
+     * @return the shard selected when the build started. {@code -1} if not selected.
+     * @since 1.3.4
+     */
+    public int getShard() {
+        return (shard != null) ? shard : -1;
+    }
+
+    /**
+     * Selects the shard next to the one of the last build using the default value,
+     * so that builds without specifying the parameter, like ones triggered by timers,
+     * cover all combinations in turn.
+     *
+     * @param build the build starting
+     * @since 1.3.4
+     */
+    public void selectShard(@Nonnull MatrixBuild build) {
+        if (shards <= 0 || shard != null) {
+            return;
+        }
+        shard = 0;
+        MatrixBuild previous = build.getPreviousBuild();
+        for (int i = 0; previous != null && i < MAX_BUILDS_TO_LOOK_BACK; ++i) {
+            ParametersAction paction = previous.getAction(ParametersAction.class);
+            ParameterValue value = (paction != null) ? paction.getParameter(getName()) : null;
+            if (value instanceof DefaultMatrixCombinationsParameterValue) {
+                DefaultMatrixCombinationsParameterValue last = (DefaultMatrixCombinationsParameterValue) value;
+                if (last.getShards() == shards && last.getShard() >= 0) {
+                    shard = (last.getShard() + 1) % shards;
+                    return;
+                }
+            }
+            previous = previous.getPreviousBuild();
+        }
+    }
+
+    /**
+     * Evaluates the combination filter for all combinations of the axes
+     * and stores the result, so that the filter is no longer evaluated
+     * for the build.
+     * Combinations not in the selected shard are excluded.
+     *
+     * @param axes axes of the project when the build starts
+     * @since 1.3.4
+     */
+    public void evaluateCombinationFilter(@Nonnull AxisList axes) {
+        boolean filtered = Util.fixEmptyAndTrim(combinationFilter) != null;
+        if (evaluated || (!filtered && shard == null)) {
+            // nothing to evaluate. All combinations are selected.
+            return;
+        }
+        List<String> combinations = new ArrayList<String>();
+        for (Combination c : axes.list()) {
+            if (shard != null && CombinationShards.shardOf(c, shards) != shard) {
+                continue;
+            }
+            if (!filtered || CombinationFilterCache.evaluate(axes, c, combinationFilter)) {
+                combinations.add(c.toString());
+            }
+        }
+        setCombinations(combinations);
+        evaluated = true;
+    }
+
     @Override
     public VariableResolver<String> createVariableResolver(AbstractBuild<?, ?> build) {
+        if (evaluated && shard != null) {
+            // the filter doesn't tell the shard
+            return super.createVariableResolver(build);
+        }
         return new VariableResolver<String>() {
             @Override
             public String resolve(String name) {
@@ -74,12 +207,16 @@ public class DefaultMatrixCombinationsParameterValue extends MatrixCombinationsP
      */
     @Override
     public boolean combinationExists(AxisList axes, Combination c) {
+        if (evaluated) {
+            // the result of the filter when the build started
+            return super.combinationExists(axes, c);
+        }
         if (axes == null || combinationFilter == null) {
             // when axes is null, the combination filter cannot be evaluated
             // when combination filter is null, allow all combination.
             return true;
         }
-        return c.evalGroovyExpression(axes, combinationFilter);
+        return CombinationFilterCache.evaluate(axes, c, combinationFilter);
     }
 
     @Override
@@ -95,6 +232,9 @@ public class DefaultMatrixCombinationsParameterValue extends MatrixCombinationsP
         }
         DefaultMatrixCombinationsParameterValue other = (DefaultMatrixCombinationsParameterValue) obj;
 
+        if (shards != other.shards || getShard() != other.getShard()) {
+            return false;
+        }
         if (combinationFilter == null) {
             return other.combinationFilter == null;
         }
@@ -109,6 +249,10 @@ public class DefaultMatrixCombinationsParameterValue extends MatrixCombinationsP
 
     @Override
     public String toString() {
+        if (shard != null) {
+            return String.format(
+                    "(%s) %s: %s (shard %d of %d)", getClass().getName(), getName(), combinationFilter, shard, shards);
+        }
         return String.format("(%s) %s: %s", getClass().getName(), getName(), combinationFilter);
     }
 }
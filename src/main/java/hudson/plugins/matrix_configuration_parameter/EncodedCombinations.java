@@ -0,0 +1,350 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import hudson.matrix.Axis;
+import hudson.matrix.AxisList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * Compact representation of a set of combinations, used to store them in build.xml.
+ *
+ * Combinations are stored as an axis signature and a run-length encoded bitmap
+ * over the space of that signature:
+ * <dl>
+ *     <dt>axes</dt>
+ *     <dd>
+ *         {@code name=value,value,...} for each axis joined with {@code ;},
+ *         like {@code jdk=17,21;os=linux,windows}.
+ *         Axes and values are the ones appearing in the combinations, not the ones of the project,
+ *         so that the combinations can be restored without the project.
+ *         {@code %}, {@code ,}, {@code ;} and {@code =} in names and values are escaped like {@code %2C}.
+ *     </dd>
+ *     <dt>runs</dt>
+ *     <dd>
+ *         lengths of alternating runs of unselected and selected combinations,
+ *         starting with unselected ones, like {@code 0,3,1,2}.
+ *         As runs of both kinds cost the same, a set selecting most of the space
+ *         is as small as its complement.
+ *     </dd>
+ * </dl>
+ * Strings not in the form of {@link hudson.matrix.Combination#toString()} are stored as values
+ * of a single axis with an empty name.
+ */
+final class EncodedCombinations {
+    /**
+     * The string {@link hudson.matrix.Combination#toString()} returns for a combination without axes.
+     */
+    private static final String DEFAULT = "default";
+
+    @Nonnull
+    private final String axes;
+
+    @Nonnull
+    private final String runs;
+
+    EncodedCombinations(@Nonnull String axes, @Nonnull String runs) {
+        this.axes = axes;
+        this.runs = runs;
+    }
+
+    @Nonnull
+    String getAxes() {
+        return axes;
+    }
+
+    @Nonnull
+    String getRuns() {
+        return runs;
+    }
+
+    /**
+     * @param combinations string representations of combinations
+     * @return encoded combinations, or {@code null} if there are no combinations.
+     */
+    @CheckForNull
+    static EncodedCombinations encode(@Nonnull Collection<String> combinations) {
+        if (combinations.isEmpty()) {
+            return null;
+        }
+        Map<String, List<String>> axes = deriveAxes(combinations);
+        if (axes == null) {
+            // store as they are
+            List<String> values = new ArrayList<>(new LinkedHashSet<>(combinations));
+            axes = new LinkedHashMap<>();
+            axes.put("", values);
+            return new EncodedCombinations(formatAxes(axes), formatRuns(0, values.size()));
+        }
+
+        List<String> names = new ArrayList<>(axes.keySet());
+        BitSet bits = new BitSet();
+        for (String combination : combinations) {
+            Map<String, String> c = parse(combination);
+            int index = 0;
+            for (String name : names) {
+                List<String> values = axes.get(name);
+                index = index * values.size() + values.indexOf(c.get(name));
+            }
+            bits.set(index);
+        }
+        return new EncodedCombinations(formatAxes(axes), formatRuns(bits));
+    }
+
+    /**
+     * @return combinations in the order of indices.
+     * @throws IllegalArgumentException malformed data
+     */
+    @Nonnull
+    List<String> decode() {
+        List<String> names = new ArrayList<>();
+        List<List<String>> values = new ArrayList<>();
+        long space = 1;
+        if (!axes.isEmpty()) {
+            for (String axis : axes.split(";", -1)) {
+                int eq = axis.indexOf('=');
+                if (eq < 0) {
+                    throw new IllegalArgumentException("Malformed axis: " + axis);
+                }
+                names.add(unescape(axis.substring(0, eq)));
+                List<String> axisValues = new ArrayList<>();
+                for (String value : axis.substring(eq + 1).split(",", -1)) {
+                    axisValues.add(unescape(value));
+                }
+                values.add(axisValues);
+                space *= axisValues.size();
+            }
+        }
+        boolean raw = names.size() == 1 && names.get(0).isEmpty();
+
+        List<String> combinations = new ArrayList<>();
+        long index = 0;
+        boolean selected = false;
+        if (!runs.isEmpty()) {
+            for (String run : runs.split(",", -1)) {
+                long length = Long.parseLong(run);
+                if (length < 0 || index + length > space) {
+                    throw new IllegalArgumentException("Malformed runs: " + runs);
+                }
+                if (selected) {
+                    for (long i = index; i < index + length; ++i) {
+                        combinations.add(raw ? values.get(0).get((int) i) : format(names, values, i));
+                    }
+                }
+                index += length;
+                selected = !selected;
+            }
+        }
+        return combinations;
+    }
+
+    /**
+     * @param axes axes
+     * @return axes in the same format as {@link #getAxes()}, used to test whether axes are changed.
+     */
+    @Nonnull
+    static String formatAxes(@Nonnull AxisList axes) {
+        Map<String, List<String>> map = new LinkedHashMap<>();
+        for (Axis axis : axes) {
+            map.put(axis.getName(), axis.getValues());
+        }
+        return formatAxes(map);
+    }
+
+    /**
+     * @return axis names to values in the order of appearance,
+     *     or {@code null} if combinations are not in the same axes.
+     */
+    @CheckForNull
+    private static Map<String, List<String>> deriveAxes(@Nonnull Collection<String> combinations) {
+        Map<String, List<String>> axes = null;
+        Map<String, Set<String>> seen = new LinkedHashMap<>();
+        for (String combination : combinations) {
+            Map<String, String> c = parse(combination);
+            if (c == null) {
+                return null;
+            }
+            if (axes == null) {
+                axes = new LinkedHashMap<>();
+                for (String name : c.keySet()) {
+                    axes.put(name, new ArrayList<String>());
+                    seen.put(name, new LinkedHashSet<String>());
+                }
+            } else if (!axes.keySet().equals(c.keySet())) {
+                return null;
+            }
+            for (Map.Entry<String, String> e : c.entrySet()) {
+                if (seen.get(e.getKey()).add(e.getValue())) {
+                    axes.get(e.getKey()).add(e.getValue());
+                }
+            }
+        }
+        long space = 1;
+        for (List<String> values : axes.values()) {
+            space *= values.size();
+            if (space > Integer.MAX_VALUE) {
+                return null;
+            }
+        }
+        return axes;
+    }
+
+    /**
+     * Parses in the same way as {@link hudson.matrix.Combination#fromString(String)}.
+     *
+     * @return axis names to values in the order of names,
+     *     or {@code null} if the string is not what {@link hudson.matrix.Combination#toString()} returns.
+     */
+    @CheckForNull
+    private static Map<String, String> parse(@Nonnull String combination) {
+        Map<String, String> c = new LinkedHashMap<>();
+        if (DEFAULT.equals(combination)) {
+            return c;
+        }
+        String last = null;
+        for (String token : combination.split(",", -1)) {
+            int eq = token.indexOf('=');
+            if (eq <= 0) {
+                return null;
+            }
+            String name = token.substring(0, eq);
+            if (last != null && last.compareTo(name) >= 0) {
+                // Combination is a TreeMap
+                return null;
+            }
+            c.put(name, token.substring(eq + 1));
+            last = name;
+        }
+        return c;
+    }
+
+    @Nonnull
+    private static String format(@Nonnull List<String> names, @Nonnull List<List<String>> values, long index) {
+        if (names.isEmpty()) {
+            return DEFAULT;
+        }
+        String[] assigned = new String[names.size()];
+        for (int i = names.size() - 1; i >= 0; --i) {
+            List<String> axisValues = values.get(i);
+            assigned[i] = axisValues.get((int) (index % axisValues.size()));
+            index /= axisValues.size();
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < names.size(); ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(names.get(i)).append('=').append(assigned[i]);
+        }
+        return sb.toString();
+    }
+
+    @Nonnull
+    private static String formatAxes(@Nonnull Map<String, List<String>> axes) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, List<String>> e : axes.entrySet()) {
+            if (sb.length() > 0) {
+                sb.append(';');
+            }
+            sb.append(escape(e.getKey())).append('=');
+            boolean first = true;
+            for (String value : e.getValue()) {
+                if (!first) {
+                    sb.append(',');
+                }
+                sb.append(escape(value));
+                first = false;
+            }
+        }
+        return sb.toString();
+    }
+
+    @Nonnull
+    private static String formatRuns(int unselected, int selected) {
+        return String.format("%d,%d", unselected, selected);
+    }
+
+    /**
+     * @param bits selected indices
+     * @return runs in the same format as {@link #getRuns()}
+     */
+    @Nonnull
+    static String formatRuns(@Nonnull BitSet bits) {
+        StringBuilder sb = new StringBuilder();
+        int index = 0;
+        while (index < bits.length()) {
+            int start = bits.nextSetBit(index);
+            int end = bits.nextClearBit(start);
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(start - index).append(',').append(end - start);
+            index = end;
+        }
+        return sb.toString();
+    }
+
+    @Nonnull
+    private static String escape(@Nonnull String s) {
+        StringBuilder sb = new StringBuilder();
+        for (char c : s.toCharArray()) {
+            if (c == '%' || c == ',' || c == ';' || c == '=') {
+                sb.append(String.format("%%%02X", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    @Nonnull
+    private static String unescape(@Nonnull String s) {
+        if (s.indexOf('%') < 0) {
+            return s;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < s.length(); ++i) {
+            char c = s.charAt(i);
+            if (c == '%') {
+                if (i + 2 >= s.length()) {
+                    throw new IllegalArgumentException("Malformed escape: " + s);
+                }
+                sb.append((char) Integer.parseInt(s.substring(i + 1, i + 3), 16));
+                i += 2;
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -25,18 +25,33 @@ package hudson.plugins.matrix_configuration_parameter;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import hudson.Extension;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixProject;
+import hudson.model.Item;
+import hudson.model.ParameterDefinition;
+import hudson.model.ParametersDefinitionProperty;
 import hudson.model.Result;
 import hudson.model.SimpleParameterDefinition;
 import hudson.plugins.matrix_configuration_parameter.shortcut.MatrixCombinationsShortcut;
 import hudson.plugins.matrix_configuration_parameter.shortcut.MatrixCombinationsShortcutDescriptor;
+import hudson.plugins.matrix_configuration_parameter.shortcut.PresetShortcut;
 import hudson.plugins.matrix_configuration_parameter.shortcut.ResultShortcut;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import net.sf.json.JSONObject;
 import org.apache.commons.lang.StringUtils;
+import org.kohsuke.stapler.AncestorInPath;
 import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
+import org.kohsuke.stapler.HttpResponse;
+import org.kohsuke.stapler.HttpResponses;
+import org.kohsuke.stapler.QueryParameter;
 import org.kohsuke.stapler.StaplerRequest;
+import org.kohsuke.stapler.verb.GET;
 
 public class MatrixCombinationsParameterDefinition extends SimpleParameterDefinition {
 
@@ -49,6 +64,11 @@ public class MatrixCombinationsParameterDefinition extends SimpleParameterDefini
                     "For whatever reason ParameterDefinition is defined as Serializable though only XStream actually serializes it.")
     private final List<MatrixCombinationsShortcut> shortcutList;
 
+    private int shards;
+
+    @SuppressFBWarnings(value = "SE_BAD_FIELD", justification = "Only XStream actually serializes it.")
+    private List<CombinationPreset> presets;
+
     /**
      * @return groovy expression to specify default checked combinations
      */
@@ -65,6 +85,80 @@ public class MatrixCombinationsParameterDefinition extends SimpleParameterDefini
         return shortcutList;
     }
 
+    /**
+     * @return number of shards to split default combinations into. {@code 0} not to split.
+     * @since 1.3.4
+     */
+    public int getShards() {
+        return shards;
+    }
+
+    /**
+     * Builds without specifying the parameter select shards in turn.
+     *
+     * @param shards number of shards to split default combinations into. {@code 0} not to split.
+     * @since 1.3.4
+     */
+    @DataBoundSetter
+    public void setShards(int shards) {
+        this.shards = Math.max(shards, 0);
+    }
+
+    /**
+     * @return named selections of combinations
+     * @since 1.3.4
+     */
+    @Nonnull
+    public List<CombinationPreset> getPresets() {
+        return (presets != null) ? presets : Collections.<CombinationPreset>emptyList();
+    }
+
+    /**
+     * Presets are displayed as shortcut links,
+     * and their names are accepted as values like ones passed to {@code buildWithParameters}.
+     *
+     * @param presets named selections of combinations
+     * @since 1.3.4
+     */
+    @DataBoundSetter
+    public void setPresets(List<CombinationPreset> presets) {
+        this.presets = (presets != null && !presets.isEmpty()) ? new ArrayList<>(presets) : null;
+    }
+
+    /**
+     * @param name name of the preset
+     * @return the preset, or {@code null} if there's no preset with that name.
+     * @since 1.3.4
+     */
+    @CheckForNull
+    public CombinationPreset getPreset(@CheckForNull String name) {
+        if (StringUtils.isBlank(name)) {
+            return null;
+        }
+        for (CombinationPreset preset : getPresets()) {
+            if (preset.getName().equals(name.trim())) {
+                return preset;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return {@link #getShortcutList()} followed by shortcuts for {@link #getPresets()}
+     * @since 1.3.4
+     */
+    @Nonnull
+    public List<MatrixCombinationsShortcut> getShortcutLinks() {
+        if (getPresets().isEmpty()) {
+            return getShortcutList();
+        }
+        List<MatrixCombinationsShortcut> links = new ArrayList<>(getShortcutList());
+        for (CombinationPreset preset : getPresets()) {
+            links.add(new PresetShortcut(preset.getName()));
+        }
+        return links;
+    }
+
     /**
      * @return list of shortcuts that should be used as defaults
      * @since 1.1.0
@@ -120,8 +214,11 @@ public class MatrixCombinationsParameterDefinition extends SimpleParameterDefini
         }
         if (shortcutListMissing) {
             // the one from < 1.1.0
-            return new MatrixCombinationsParameterDefinition(
-                    getName(), getDescription(), getDefaultCombinationFilter());
+            MatrixCombinationsParameterDefinition def =
+                    new MatrixCombinationsParameterDefinition(getName(), getDescription(), getDefaultCombinationFilter());
+            def.setShards(getShards());
+            def.setPresets(getPresets());
+            return def;
         }
         return this;
     }
@@ -134,15 +231,25 @@ public class MatrixCombinationsParameterDefinition extends SimpleParameterDefini
     }
 
     /**
+     * Accepts the name of a preset or a combination filter.
+     *
      * {@inheritDoc}
      */
     @Override
     public MatrixCombinationsParameterValue createValue(String value) {
+        CombinationPreset preset = getPreset(value);
+        if (preset != null) {
+            return preset.createValue(getName(), getDescription());
+        }
         return new DefaultMatrixCombinationsParameterValue(getName(), getDescription(), value);
     }
 
     @Override
     public MatrixCombinationsParameterValue getDefaultParameterValue() {
+        if (getShards() > 0) {
+            return new DefaultMatrixCombinationsParameterValue(
+                    getName(), getDescription(), getDefaultCombinationFilter(), getShards());
+        }
         return createValue(getDefaultCombinationFilter());
     }
 
@@ -170,5 +277,49 @@ public class MatrixCombinationsParameterDefinition extends SimpleParameterDefini
         public List<MatrixCombinationsShortcutDescriptor> getShortcutDescriptorList() {
             return MatrixCombinationsShortcutDescriptor.all();
         }
+
+        /**
+         * Computes combinations of a shortcut when the link is clicked,
+         * rather than computing all shortcuts when the page is displayed.
+         *
+         * Called as {@code PROJECT_URL/descriptorByName/DESCRIPTOR_ID/shortcutCombinations}.
+         *
+         * @param project the target project
+         * @param parameter name of the parameter
+         * @param shortcut index of the shortcut in {@link MatrixCombinationsParameterDefinition#getShortcutLinks()}
+         * @param build number of the target build. Empty if there's no builds.
+         * @return comma-separated list of combination indices
+         * @since 1.3.4
+         */
+        @GET
+        public HttpResponse doShortcutCombinations(
+                @AncestorInPath MatrixProject project,
+                @QueryParameter String parameter,
+                @QueryParameter int shortcut,
+                @QueryParameter String build) {
+            if (project == null) {
+                return HttpResponses.notFound();
+            }
+            project.checkPermission(Item.READ);
+            ParametersDefinitionProperty prop = project.getProperty(ParametersDefinitionProperty.class);
+            ParameterDefinition def = (prop != null) ? prop.getParameterDefinition(parameter) : null;
+            if (!(def instanceof MatrixCombinationsParameterDefinition)) {
+                return HttpResponses.notFound();
+            }
+            List<MatrixCombinationsShortcut> shortcutList =
+                    ((MatrixCombinationsParameterDefinition) def).getShortcutLinks();
+            if (shortcut < 0 || shortcut >= shortcutList.size()) {
+                return HttpResponses.notFound();
+            }
+            MatrixBuild b = null;
+            if (StringUtils.isNotBlank(build)) {
+                try {
+                    b = project.getBuildByNumber(Integer.parseInt(build));
+                } catch (NumberFormatException e) {
+                    return HttpResponses.errorWithoutStack(400, String.format("Invalid build number: %s", build));
+                }
+            }
+            return HttpResponses.plainText(shortcutList.get(shortcut).getCombinationsData(project, b));
+        }
     }
 }
@@ -0,0 +1,71 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import hudson.Extension;
+import hudson.Util;
+import hudson.matrix.MatrixProject;
+import hudson.model.Item;
+import hudson.model.ParametersDefinitionProperty;
+import hudson.model.listeners.ItemListener;
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Evaluates {@link CombinationPreset}s when a project is configured,
+ * and saves the project again to store the results.
+ */
+@Extension
+public class MatrixCombinationsParameterItemListener extends ItemListener {
+    private static final Logger LOGGER = Logger.getLogger(MatrixCombinationsParameterItemListener.class.getName());
+
+    @Override
+    public void onUpdated(Item item) {
+        if (!(item instanceof MatrixProject)) {
+            return;
+        }
+        MatrixProject project = (MatrixProject) item;
+        ParametersDefinitionProperty pdp = project.getProperty(ParametersDefinitionProperty.class);
+        if (pdp == null) {
+            return;
+        }
+        boolean updated = false;
+        for (MatrixCombinationsParameterDefinition def :
+                Util.filter(pdp.getParameterDefinitions(), MatrixCombinationsParameterDefinition.class)) {
+            for (CombinationPreset preset : def.getPresets()) {
+                updated |= preset.update(project);
+            }
+        }
+        if (updated) {
+            try {
+                project.save();
+            } catch (IOException e) {
+                LOGGER.log(
+                        Level.WARNING, String.format("Failed to save presets of %s", project.getFullDisplayName()), e);
+            }
+        }
+    }
+}
@@ -26,21 +26,39 @@ package hudson.plugins.matrix_configuration_parameter;
 
 import hudson.Extension;
 import hudson.Util;
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
 import hudson.matrix.MatrixBuild;
 import hudson.matrix.MatrixConfiguration;
 import hudson.matrix.listeners.MatrixBuildListener;
 import hudson.model.ParametersAction;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import javax.annotation.Nonnull;
 
 /**
  *
  */
 @Extension
 public class MatrixCombinationsParameterMatrixBuildListener extends MatrixBuildListener {
+    /**
+     * Effective selections of running builds.
+     * Builds are weakly referred and the entry disappears with the build.
+     */
+    private final Map<MatrixBuild, BuildSelection> selections =
+            Collections.synchronizedMap(new WeakHashMap<MatrixBuild, BuildSelection>());
 
     /**
      * If {@link MatrixCombinationsParameterValue} is assigned to MatrixBuild,
      * filter MatrixConfiguration with that value.
      *
+     * The selection is computed once for the first configuration of the build,
+     * and looked up for the rest.
+     *
      * @param b
      * @param c
      * @return whether this configuration should run.
@@ -48,17 +66,115 @@ public class MatrixCombinationsParameterMatrixBuildListener extends MatrixBuildL
      */
     @Override
     public boolean doBuildConfiguration(MatrixBuild b, MatrixConfiguration c) {
-        ParametersAction paction = b.getAction(ParametersAction.class);
-        if (paction == null) {
-            return true;
+        return getSelection(b).contains(c.getCombination());
+    }
+
+    @Nonnull
+    private BuildSelection getSelection(@Nonnull MatrixBuild b) {
+        BuildSelection selection = selections.get(b);
+        if (selection == null) {
+            // Configurations are usually tested from a single thread. Racing ones compute the same result.
+            selection = BuildSelection.compute(b);
+            selections.put(b, selection);
+        }
+        return selection;
+    }
+
+    /**
+     * @param value parameter value
+     * @return whether the value selects all combinations without evaluating anything.
+     */
+    private static boolean isAll(@Nonnull MatrixCombinationsParameterValue value) {
+        if (!(value instanceof DefaultMatrixCombinationsParameterValue)) {
+            return false;
+        }
+        DefaultMatrixCombinationsParameterValue defaultValue = (DefaultMatrixCombinationsParameterValue) value;
+        // a sharded value selects a part of combinations even without filters
+        return defaultValue.getShards() <= 0
+                && !defaultValue.isEvaluated()
+                && Util.fixEmptyAndTrim(defaultValue.getCombinationFilter()) == null;
+    }
+
+    /**
+     * Combinations a build selects with its parameters.
+     */
+    private static class BuildSelection {
+        private static final BuildSelection ALL = new BuildSelection(null, Collections.emptyList(), null, null);
+
+        private final AxisList axes;
+        private final List<MatrixCombinationsParameterValue> values;
+
+        /**
+         * Active configurations at the beginning of the build.
+         */
+        private final BitSet evaluated;
+
+        /**
+         * Results for {@link #evaluated}.
+         */
+        private final BitSet selected;
+
+        private BuildSelection(
+                AxisList axes, List<MatrixCombinationsParameterValue> values, BitSet evaluated, BitSet selected) {
+            this.axes = axes;
+            this.values = values;
+            this.evaluated = evaluated;
+            this.selected = selected;
+        }
+
+        @Nonnull
+        static BuildSelection compute(@Nonnull MatrixBuild b) {
+            ParametersAction paction = b.getAction(ParametersAction.class);
+            if (paction == null) {
+                return ALL;
+            }
+            List<MatrixCombinationsParameterValue> values = new ArrayList<>();
+            for (MatrixCombinationsParameterValue value :
+                    Util.filter(paction.getParameters(), MatrixCombinationsParameterValue.class)) {
+                if (!isAll(value)) {
+                    values.add(value);
+                }
+            }
+            if (values.isEmpty()) {
+                return ALL;
+            }
+
+            AxisList axes = b.getParent().getAxes();
+            BitSet evaluated = new BitSet();
+            BitSet selected = new BitSet();
+            for (MatrixConfiguration c : b.getParent().getActiveConfigurations()) {
+                int index = CombinationIndex.indexOf(axes, c.getCombination());
+                if (index < 0) {
+                    continue;
+                }
+                evaluated.set(index);
+                if (evaluate(axes, values, c.getCombination())) {
+                    selected.set(index);
+                }
+            }
+            return new BuildSelection(axes, values, evaluated, selected);
         }
-        for (MatrixCombinationsParameterValue value :
-                Util.filter(paction.getParameters(), MatrixCombinationsParameterValue.class)) {
-            if (!value.combinationExists(b.getParent().getAxes(), c.getCombination())) {
-                return false;
+
+        private static boolean evaluate(
+                AxisList axes, List<MatrixCombinationsParameterValue> values, Combination combination) {
+            for (MatrixCombinationsParameterValue value : values) {
+                if (!value.combinationExists(axes, combination)) {
+                    return false;
+                }
             }
+            return true;
         }
 
-        return true;
+        boolean contains(@Nonnull Combination combination) {
+            if (selected == null) {
+                return true;
+            }
+            int index = CombinationIndex.indexOf(axes, combination);
+            if (index < 0 || !evaluated.get(index)) {
+                // not an active configuration at the beginning of the build
+                return evaluate(axes, values, combination);
+            }
+            return selected.get(index);
+        }
     }
 }
@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import hudson.Extension;
+import hudson.Util;
+import hudson.matrix.AxisList;
+import hudson.matrix.MatrixBuild;
+import hudson.model.ParametersAction;
+import hudson.model.ParametersDefinitionProperty;
+import hudson.model.TaskListener;
+import hudson.model.listeners.RunListener;
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nonnull;
+
+/**
+ * Evaluates filters of {@link DefaultMatrixCombinationsParameterValue} when a build starts,
+ * so that configurations, build pages and rebuilds refer the stored result,
+ * and records {@link CombinationResultsAction} and {@link CombinationHistory} when a build completes.
+ */
+@Extension
+public class MatrixCombinationsParameterRunListener extends RunListener<MatrixBuild> {
+    private static final Logger LOGGER = Logger.getLogger(MatrixCombinationsParameterRunListener.class.getName());
+
+    public MatrixCombinationsParameterRunListener() {
+        super(MatrixBuild.class);
+    }
+
+    @Override
+    public void onStarted(MatrixBuild b, TaskListener listener) {
+        ParametersAction paction = b.getAction(ParametersAction.class);
+        if (paction == null) {
+            return;
+        }
+        AxisList axes = b.getParent().getAxes();
+        for (DefaultMatrixCombinationsParameterValue value :
+                Util.filter(paction.getParameters(), DefaultMatrixCombinationsParameterValue.class)) {
+            value.selectShard(b);
+            value.evaluateCombinationFilter(axes);
+        }
+    }
+
+    @Override
+    public void onCompleted(MatrixBuild b, @Nonnull TaskListener listener) {
+        ParametersDefinitionProperty pdp = b.getParent().getProperty(ParametersDefinitionProperty.class);
+        if (pdp == null
+                || Util.filter(pdp.getParameterDefinitions(), MatrixCombinationsParameterDefinition.class)
+                        .isEmpty()) {
+            // summaries are used only by shortcuts and pages of this parameter
+            return;
+        }
+        CombinationResultsAction action = CombinationResultsAction.record(b);
+        if (action != null) {
+            b.addAction(action);
+            try {
+                b.save();
+            } catch (IOException e) {
+                LOGGER.log(
+                        Level.WARNING, String.format("Failed to save the summary of %s", b.getFullDisplayName()), e);
+            }
+        }
+        CombinationHistory.of(b.getParent()).record(b);
+    }
+}
@@ -23,8 +23,6 @@
  */
 package hudson.plugins.matrix_configuration_parameter;
 
-import com.google.common.base.Function;
-import com.google.common.collect.Lists;
 import hudson.markup.MarkupFormatter;
 import hudson.matrix.AxisList;
 import hudson.matrix.Combination;
@@ -33,12 +31,12 @@ import hudson.model.ParameterValue;
 import hudson.util.VariableResolver;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.annotation.Nonnull;
 import jenkins.model.Jenkins;
+import jenkins.util.SystemProperties;
 import org.apache.commons.lang.StringUtils;
 import org.kohsuke.stapler.DataBoundConstructor;
 
@@ -47,7 +45,33 @@ public class MatrixCombinationsParameterValue extends ParameterValue {
 
     private static final Logger LOGGER = Logger.getLogger(MatrixCombinationsParameterValue.class.getName());
 
-    private List<String> combinations;
+    /**
+     * Whether variables are resolved to expressions with cartesian products factored out,
+     * like {@code (axis1 in ['value1', 'value2'] && axis2 == 'value3')}.
+     */
+    static boolean minimizeExpression =
+            SystemProperties.getBoolean(MatrixCombinationsParameterValue.class.getName() + ".minimizeExpression");
+
+    /**
+     * Combinations to build, only read from builds of 1.1.0 - 1.3.3.
+     * Stored as {@link #combinationAxes} and {@link #combinationRuns} since 1.3.4.
+     */
+    private transient List<String> combinations;
+
+    /**
+     * @see EncodedCombinations#getAxes()
+     */
+    private String combinationAxes;
+
+    /**
+     * @see EncodedCombinations#getRuns()
+     */
+    private String combinationRuns;
+
+    /**
+     * Combinations shared with other values selecting the same ones.
+     */
+    private transient CombinationSelection selection;
 
     @Deprecated
     transient Boolean[] values;
@@ -65,8 +89,17 @@ public class MatrixCombinationsParameterValue extends ParameterValue {
     @DataBoundConstructor
     public MatrixCombinationsParameterValue(String name, String description, List<String> combinations) {
         super(name, description);
-        this.combinations =
-                (combinations != null) ? Collections.unmodifiableList(combinations) : Collections.<String>emptyList();
+        setSelection(CombinationSelection.of(combinations));
+    }
+
+    /**
+     * @param name name of parameter
+     * @param description description of parameter
+     * @param selection combinations to build, shared with others
+     */
+    MatrixCombinationsParameterValue(String name, String description, @Nonnull CombinationSelection selection) {
+        super(name, description);
+        setSelection(selection);
     }
 
     @Deprecated
@@ -95,19 +128,53 @@ public class MatrixCombinationsParameterValue extends ParameterValue {
      */
     @Nonnull
     public List<String> getCombinations() {
-        return combinations;
+        return selection.getCombinations();
     }
 
     protected Object readResolve() {
-        if (combinations == null) {
-            // < 1.1.0
-            this.combinations = convertValuesAndConfs(this.values, this.confs);
+        if (combinations != null) {
+            // 1.1.0 - 1.3.3
+            setSelection(CombinationSelection.of(combinations));
+            this.combinations = null;
+        } else if (combinationRuns != null) {
+            setSelection(decodeCombinations());
+        } else {
+            // < 1.1.0, or no combinations
+            setSelection(CombinationSelection.of(convertValuesAndConfs(this.values, this.confs)));
             this.confs = null;
             this.values = null;
         }
         return this;
     }
 
+    /**
+     * Replaces combinations to build.
+     * Only for values not yet exposed, or those in the build being started.
+     *
+     * @param combinations combinations to build
+     */
+    void setCombinations(@Nonnull List<String> combinations) {
+        setSelection(CombinationSelection.of(combinations));
+    }
+
+    private void setSelection(@Nonnull CombinationSelection selection) {
+        this.selection = selection;
+        EncodedCombinations encoded = selection.getEncoded();
+        this.combinationAxes = (encoded != null) ? encoded.getAxes() : null;
+        this.combinationRuns = (encoded != null) ? encoded.getRuns() : null;
+    }
+
+    @Nonnull
+    private CombinationSelection decodeCombinations() {
+        try {
+            return CombinationSelection.decode(
+                    new EncodedCombinations(StringUtils.defaultString(combinationAxes), combinationRuns));
+        } catch (IllegalArgumentException e) {
+            LOGGER.log(Level.WARNING, String.format("Ignored malformed combinations of %s", getName()), e);
+            return CombinationSelection.of(null);
+        }
+    }
+
     private static List<String> convertValuesAndConfs(Boolean[] values, String[] confs) {
         List<String> ret = new ArrayList<String>();
 
@@ -132,22 +199,19 @@ public class MatrixCombinationsParameterValue extends ParameterValue {
                     return null;
                 }
 
-                return StringUtils.join(
-                        Lists.transform(getCombinations(), new Function<String, String>() {
-                            @Override
-                            public String apply(String combination) {
-                                return String.format(
-                                        "(%s')",
-                                        combination.replace("=", " == '").replace(",", "' && "));
-                            }
-                        }),
-                        " || ");
+                return selection.getExpression(minimizeExpression);
             }
         };
     }
 
     public boolean combinationExists(AxisList axes, Combination c) {
-        return getCombinations().contains(c.toString());
+        if (axes != null) {
+            int index = CombinationIndex.indexOf(axes, c);
+            if (index >= 0) {
+                return selection.getIndices(axes).get(index);
+            }
+        }
+        return selection.getCombinationSet().contains(c.toString());
     }
 
     @Deprecated
@@ -176,7 +240,9 @@ public class MatrixCombinationsParameterValue extends ParameterValue {
         }
         MatrixCombinationsParameterValue other = (MatrixCombinationsParameterValue) obj;
 
-        return getCombinations().equals(other.getCombinations());
+        // the order is not preserved in build.xml
+        return selection == other.selection
+                || selection.getCombinationSet().equals(other.selection.getCombinationSet());
     }
 
     @Override
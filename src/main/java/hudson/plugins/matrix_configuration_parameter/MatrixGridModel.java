@@ -0,0 +1,311 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import hudson.matrix.Axis;
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.Layouter;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixConfiguration;
+import hudson.matrix.MatrixProject;
+import hudson.matrix.MatrixRun;
+import hudson.model.BallColor;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import jenkins.util.SystemProperties;
+
+/**
+ * Model of the matrix of combinations rendered by the browser,
+ * used instead of rendering each cell on the server for large axes.
+ *
+ * The model is a JSON document of:
+ * <dl>
+ *     <dt>axes</dt>
+ *     <dd>axes of the project in the format of {@link EncodedCombinations#formatAxes(AxisList)}.</dd>
+ *     <dt>x, y, z</dt>
+ *     <dd>positions of axes laid out by {@link Layouter}.</dd>
+ *     <dt>active</dt>
+ *     <dd>indices of active combinations in the format of {@link EncodedCombinations#getRuns()}.</dd>
+ *     <dt>checked</dt>
+ *     <dd>indices of combinations checked by default in the same format.</dd>
+ *     <dt>results</dt>
+ *     <dd>results of the build in the format of {@link CombinationResultsAction}. Empty if unknown.</dd>
+ *     <dt>earlier</dt>
+ *     <dd>numbers of builds of runs for lower cased results, that is runs of earlier builds, in the order of indices.
+ *         Run-length encoded like {@code 12:3,10:1}, and {@code 0} for runs no longer found.</dd>
+ *     <dt>url, build</dt>
+ *     <dd>url of the project and number of the build to link runs. The number is {@code 0} without builds.</dd>
+ *     <dt>readonly</dt>
+ *     <dd>whether checkboxes are disabled.</dd>
+ * </dl>
+ * so the size of the page depends on the number of axes rather than the number of combinations.
+ *
+ * @since 1.3.4
+ */
+public final class MatrixGridModel {
+    private static final int DEFAULT_THRESHOLD = 1000;
+
+    /**
+     * Matrices with more combinations than this are rendered by the browser.
+     * {@code -1} not to render by the browser.
+     */
+    static int THRESHOLD =
+            SystemProperties.getInteger(MatrixGridModel.class.getName() + ".threshold", DEFAULT_THRESHOLD);
+
+    @Nonnull
+    private final MatrixProject project;
+
+    @CheckForNull
+    private final MatrixBuild build;
+
+    @Nonnull
+    private final BitSet active;
+
+    @Nonnull
+    private final BitSet checked;
+
+    @Nonnull
+    private final String results;
+
+    @Nonnull
+    private final String earlier;
+
+    private final boolean readonly;
+
+    private MatrixGridModel(
+            @Nonnull MatrixProject project,
+            @CheckForNull MatrixBuild build,
+            @Nonnull BitSet active,
+            @Nonnull BitSet checked,
+            @CheckForNull CombinationResultsAction summary,
+            boolean readonly) {
+        this.project = project;
+        this.build = build;
+        this.active = active;
+        this.checked = checked;
+        this.results = (summary != null) ? summary.getResults() : "";
+        this.earlier = (build != null && summary != null) ? formatEarlierRuns(project.getAxes(), build, summary) : "";
+        this.readonly = readonly;
+    }
+
+    /**
+     * @param axes axes of the project
+     * @return whether the matrix should be rendered by the browser
+     */
+    public static boolean isClientRendered(@Nonnull AxisList axes) {
+        return THRESHOLD >= 0 && CombinationIndex.size(axes) > THRESHOLD;
+    }
+
+    /**
+     * Model for the page to start a build.
+     *
+     * @param def the parameter
+     * @param project the project
+     * @param build the latest build to display results, or {@code null} if there's no builds.
+     * @return the model checking combinations of the default filter
+     */
+    @Nonnull
+    public static MatrixGridModel forDefinition(
+            @Nonnull MatrixCombinationsParameterDefinition def,
+            @Nonnull MatrixProject project,
+            @CheckForNull MatrixBuild build) {
+        AxisList axes = project.getAxes();
+        String filter = (def.getDefaultCombinationFilter() != null)
+                ? def.getDefaultCombinationFilter()
+                : project.getCombinationFilter();
+        BitSet active = new BitSet();
+        BitSet checked = new BitSet();
+        for (MatrixConfiguration c : project.getActiveConfigurations()) {
+            int index = CombinationIndex.indexOf(axes, c.getCombination());
+            if (index < 0) {
+                continue;
+            }
+            active.set(index);
+            if (CombinationFilterCache.evaluate(axes, c.getCombination(), filter)) {
+                checked.set(index);
+            }
+        }
+        CombinationResultsAction summary = (build != null) ? getSummary(build) : null;
+        return new MatrixGridModel(project, build, active, checked, summary, false);
+    }
+
+    /**
+     * Model for pages of a build.
+     *
+     * @param value the parameter value of the build
+     * @param project the project
+     * @param build the build
+     * @param readonly whether checkboxes are disabled
+     * @return the model checking combinations run in the build
+     */
+    @Nonnull
+    public static MatrixGridModel forValue(
+            @Nonnull MatrixCombinationsParameterValue value,
+            @Nonnull MatrixProject project,
+            @Nonnull MatrixBuild build,
+            boolean readonly) {
+        AxisList axes = project.getAxes();
+        CombinationResultsAction summary = getSummary(build);
+        BitSet runs = (summary != null) ? summary.getRunIndices(true) : null;
+        BitSet active = new BitSet();
+        BitSet checked = new BitSet();
+        for (MatrixConfiguration c : project.getActiveConfigurations()) {
+            int index = CombinationIndex.indexOf(axes, c.getCombination());
+            if (index < 0) {
+                continue;
+            }
+            active.set(index);
+            if ((runs == null || runs.get(index)) && value.combinationExists(axes, c.getCombination())) {
+                checked.set(index);
+            }
+        }
+        return new MatrixGridModel(project, build, active, checked, summary, readonly);
+    }
+
+    /**
+     * @return the summary of the build, or {@code null} if axes are too large.
+     */
+    @CheckForNull
+    private static CombinationResultsAction getSummary(@Nonnull MatrixBuild build) {
+        CombinationResultsAction summary = CombinationResultsAction.of(build);
+        if (summary == null) {
+            // builds running or completed before summaries were recorded
+            summary = CombinationResultsAction.record(build);
+        }
+        return summary;
+    }
+
+    /**
+     * Resolves runs of earlier builds the same way as {@link MatrixBuild#getRun(Combination)},
+     * as the latest run of the configuration is not the one for the build on pages of older builds.
+     * Only runs of earlier builds are loaded.
+     *
+     * @return numbers of builds of runs of earlier builds in the format of {@code earlier}
+     */
+    @Nonnull
+    private static String formatEarlierRuns(
+            @Nonnull AxisList axes, @Nonnull MatrixBuild build, @Nonnull CombinationResultsAction summary) {
+        BitSet indices = (BitSet) summary.getRunIndices(false).clone();
+        indices.andNot(summary.getRunIndices(true));
+        StringBuilder sb = new StringBuilder();
+        int last = -1;
+        int count = 0;
+        for (int i = indices.nextSetBit(0); i >= 0; i = indices.nextSetBit(i + 1)) {
+            MatrixRun run = build.getRun(CombinationIndex.combinationAt(axes, i));
+            int number = (run != null) ? run.getNumber() : 0;
+            if (count > 0 && number != last) {
+                appendRun(sb, last, count);
+                count = 0;
+            }
+            last = number;
+            ++count;
+        }
+        if (count > 0) {
+            appendRun(sb, last, count);
+        }
+        return sb.toString();
+    }
+
+    private static void appendRun(@Nonnull StringBuilder sb, int number, int count) {
+        if (sb.length() > 0) {
+            sb.append(',');
+        }
+        sb.append(number).append(':').append(count);
+    }
+
+    /**
+     * @return the model in JSON
+     */
+    @Nonnull
+    public String getJson() {
+        AxisList axes = project.getAxes();
+        Layouter<Combination> layouter = new Layouter<Combination>(axes) {
+            @Override
+            protected Combination getT(Combination c) {
+                return c;
+            }
+        };
+        StringBuilder sb = new StringBuilder("{");
+        appendString(sb, "axes", EncodedCombinations.formatAxes(axes)).append(',');
+        appendPositions(sb, "x", axes, layouter.x).append(',');
+        appendPositions(sb, "y", axes, layouter.y).append(',');
+        appendPositions(sb, "z", axes, layouter.z).append(',');
+        appendString(sb, "active", EncodedCombinations.formatRuns(active)).append(',');
+        appendString(sb, "checked", EncodedCombinations.formatRuns(checked)).append(',');
+        appendString(sb, "results", results).append(',');
+        appendString(sb, "earlier", earlier).append(',');
+        appendString(sb, "url", project.getUrl()).append(',');
+        sb.append("\"build\":").append((build != null) ? build.getNumber() : 0).append(',');
+        sb.append("\"readonly\":").append(readonly);
+        return sb.append('}').toString();
+    }
+
+    /**
+     * @return icon classes for codes of results, cloned by the browser for each cell.
+     */
+    @Nonnull
+    public Map<String, String> getIcons() {
+        Map<String, String> icons = new LinkedHashMap<>();
+        for (char code : "SUFNA".toCharArray()) {
+            icons.put(String.valueOf(code), CombinationResultsAction.fromCode(code).color.getIconClassName());
+        }
+        icons.put("X", BallColor.NOTBUILT.getIconClassName());
+        icons.put("-", "icon-nobuilt");
+        return icons;
+    }
+
+    @Nonnull
+    private static StringBuilder appendPositions(
+            @Nonnull StringBuilder sb, @Nonnull String key, @Nonnull AxisList axes, @Nonnull List<Axis> layout) {
+        sb.append('"').append(key).append("\":[");
+        for (int i = 0; i < layout.size(); ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(axes.indexOf(layout.get(i)));
+        }
+        return sb.append(']');
+    }
+
+    @Nonnull
+    private static StringBuilder appendString(@Nonnull StringBuilder sb, @Nonnull String key, @Nonnull String value) {
+        sb.append('"').append(key).append("\":\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20 || c == '<' || c == '>' || c == '&') {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"');
+    }
+}
@@ -0,0 +1,632 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * Evaluates simple combination filters without Groovy.
+ *
+ * Supports the subset of Groovy most filters are written in:
+ * <ul>
+ *     <li>{@code axis == 'value'}, {@code axis != 'value'}</li>
+ *     <li>{@code axis in ['value1', 'value2']}</li>
+ *     <li>{@code &&}, {@code ||}, {@code !}, parentheses, {@code true} and {@code false}</li>
+ * </ul>
+ * Anything else is rejected by {@link #parse(String)}
+ * and should be evaluated with Groovy.
+ */
+final class SimpleCombinationFilter {
+    /**
+     * Names that Groovy doesn't resolve to axis values.
+     */
+    private static final Set<String> RESERVED = new HashSet<>(Arrays.asList(
+            // bound by Combination#evalGroovyExpression over axis values
+            "index",
+            "uniqueId",
+            // resolved by the closure the expression is wrapped with
+            "it",
+            "owner",
+            "delegate",
+            "thisObject",
+            "class",
+            "metaClass",
+            "directive",
+            "resolveStrategy",
+            "maximumNumberOfParameters",
+            "parameterTypes",
+            // keywords
+            "abstract",
+            "as",
+            "assert",
+            "boolean",
+            "break",
+            "byte",
+            "case",
+            "catch",
+            "char",
+            "const",
+            "continue",
+            "def",
+            "default",
+            "do",
+            "double",
+            "else",
+            "enum",
+            "extends",
+            "false",
+            "final",
+            "finally",
+            "float",
+            "for",
+            "goto",
+            "if",
+            "implements",
+            "import",
+            "in",
+            "instanceof",
+            "int",
+            "interface",
+            "long",
+            "native",
+            "new",
+            "null",
+            "package",
+            "private",
+            "protected",
+            "public",
+            "return",
+            "short",
+            "static",
+            "strictfp",
+            "super",
+            "switch",
+            "synchronized",
+            "this",
+            "threadsafe",
+            "throw",
+            "throws",
+            "trait",
+            "transient",
+            "true",
+            "try",
+            "void",
+            "volatile",
+            "while"));
+
+    /**
+     * Packages Groovy imports by default.
+     * Capitalized names are resolved to classes in them rather than variables.
+     */
+    private static final List<String> DEFAULT_IMPORTS =
+            Arrays.asList("java.lang.", "java.util.", "java.io.", "java.net.", "groovy.lang.", "groovy.util.");
+
+    private final Node root;
+    private final Set<String> variables;
+
+    private SimpleCombinationFilter(@Nonnull Node root, @Nonnull Set<String> variables) {
+        this.root = root;
+        this.variables = Collections.unmodifiableSet(variables);
+    }
+
+    /**
+     * @return axis names the expression refers
+     */
+    @Nonnull
+    Set<String> getVariables() {
+        return variables;
+    }
+
+    /**
+     * @param values axis names to values
+     * @return the result, or {@code null} if it refers an axis not in values
+     *     (left to Groovy to report that).
+     */
+    @CheckForNull
+    Boolean evaluate(@Nonnull Map<String, String> values) {
+        if (!values.keySet().containsAll(variables)) {
+            return null;
+        }
+        return root.evaluate(values);
+    }
+
+    /**
+     * @param expression combination filter
+     * @return parsed filter, or {@code null} if not supported.
+     */
+    @CheckForNull
+    static SimpleCombinationFilter parse(@CheckForNull String expression) {
+        if (expression == null) {
+            return null;
+        }
+        List<Token> tokens = tokenize(expression);
+        if (tokens == null || tokens.isEmpty()) {
+            return null;
+        }
+        Parser parser = new Parser(tokens);
+        Node root = parser.parseOr();
+        if (root == null || !parser.atEnd()) {
+            return null;
+        }
+        return new SimpleCombinationFilter(root, parser.variables);
+    }
+
+    private enum TokenType {
+        IDENTIFIER,
+        STRING,
+        TRUE,
+        FALSE,
+        IN,
+        EQ,
+        NE,
+        AND,
+        OR,
+        NOT,
+        LPAREN,
+        RPAREN,
+        LBRACKET,
+        RBRACKET,
+        COMMA,
+    }
+
+    private static class Token {
+        final TokenType type;
+        final String text;
+
+        Token(TokenType type, String text) {
+            this.type = type;
+            this.text = text;
+        }
+    }
+
+    @CheckForNull
+    private static List<Token> tokenize(@Nonnull String expression) {
+        List<Token> tokens = new ArrayList<>();
+        int pos = 0;
+        int len = expression.length();
+        while (pos < len) {
+            char c = expression.charAt(pos);
+            if (c == ' ' || c == '\t') {
+                ++pos;
+                continue;
+            }
+            if (c == '\'' || c == '"') {
+                int end = expression.indexOf(c, pos + 1);
+                if (end < 0) {
+                    return null;
+                }
+                String text = expression.substring(pos + 1, end);
+                if (text.indexOf('\\') >= 0 || (c == '"' && text.indexOf('$') >= 0)) {
+                    // escapes and GStrings
+                    return null;
+                }
+                tokens.add(new Token(TokenType.STRING, text));
+                pos = end + 1;
+                continue;
+            }
+            if (Character.isJavaIdentifierStart(c) && c != '$') {
+                int end = pos + 1;
+                while (end < len && Character.isJavaIdentifierPart(expression.charAt(end))) {
+                    ++end;
+                }
+                String text = expression.substring(pos, end);
+                if ("true".equals(text)) {
+                    tokens.add(new Token(TokenType.TRUE, text));
+                } else if ("false".equals(text)) {
+                    tokens.add(new Token(TokenType.FALSE, text));
+                } else if ("in".equals(text)) {
+                    tokens.add(new Token(TokenType.IN, text));
+                } else if (RESERVED.contains(text) || text.indexOf('$') >= 0 || isClassName(text)) {
+                    return null;
+                } else {
+                    tokens.add(new Token(TokenType.IDENTIFIER, text));
+                }
+                pos = end;
+                continue;
+            }
+            String rest = expression.substring(pos);
+            if (rest.startsWith("==")) {
+                if (rest.startsWith("===") || rest.startsWith("==~")) {
+                    return null;
+                }
+                tokens.add(new Token(TokenType.EQ, "=="));
+                pos += 2;
+            } else if (rest.startsWith("!=")) {
+                if (rest.startsWith("!==")) {
+                    return null;
+                }
+                tokens.add(new Token(TokenType.NE, "!="));
+                pos += 2;
+            } else if (rest.startsWith("&&")) {
+                tokens.add(new Token(TokenType.AND, "&&"));
+                pos += 2;
+            } else if (rest.startsWith("||")) {
+                tokens.add(new Token(TokenType.OR, "||"));
+                pos += 2;
+            } else if (c == '!') {
+                tokens.add(new Token(TokenType.NOT, "!"));
+                ++pos;
+            } else if (c == '(') {
+                tokens.add(new Token(TokenType.LPAREN, "("));
+                ++pos;
+            } else if (c == ')') {
+                tokens.add(new Token(TokenType.RPAREN, ")"));
+                ++pos;
+            } else if (c == '[') {
+                tokens.add(new Token(TokenType.LBRACKET, "["));
+                ++pos;
+            } else if (c == ']') {
+                tokens.add(new Token(TokenType.RBRACKET, "]"));
+                ++pos;
+            } else if (c == ',') {
+                tokens.add(new Token(TokenType.COMMA, ","));
+                ++pos;
+            } else {
+                // including new lines, which Groovy may treat as the end of a statement.
+                return null;
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isClassName(@Nonnull String name) {
+        if (!Character.isUpperCase(name.charAt(0))) {
+            return false;
+        }
+        if ("BigInteger".equals(name) || "BigDecimal".equals(name)) {
+            return true;
+        }
+        for (String pkg : DEFAULT_IMPORTS) {
+            try {
+                Class.forName(pkg + name, false, SimpleCombinationFilter.class.getClassLoader());
+                return true;
+            } catch (ClassNotFoundException | LinkageError e) {
+                // not a class
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Recursive descent parser. Every method returns {@code null} for unsupported input.
+     *
+     * <pre>
+     * or         := and ('||' and)*
+     * and        := unary ('&amp;&amp;' unary)*
+     * unary      := '!' unary | '(' or ')' | 'true' | 'false' | comparison
+     * comparison := operand ('==' | '!=') operand | operand 'in' '[' string (',' string)* ']'
+     * operand    := identifier | string
+     * </pre>
+     *
+     * Note that {@code !} binds tighter than {@code ==} in Groovy,
+     * so {@code !axis == 'value'} is rejected rather than parsed as {@code !(axis == 'value')}.
+     */
+    private static class Parser {
+        private final List<Token> tokens;
+        private int pos = 0;
+        final Set<String> variables = new HashSet<>();
+
+        Parser(List<Token> tokens) {
+            this.tokens = tokens;
+        }
+
+        boolean atEnd() {
+            return pos >= tokens.size();
+        }
+
+        @CheckForNull
+        private TokenType peek() {
+            return atEnd() ? null : tokens.get(pos).type;
+        }
+
+        @CheckForNull
+        Node parseOr() {
+            Node lhs = parseAnd();
+            while (lhs != null && peek() == TokenType.OR) {
+                ++pos;
+                Node rhs = parseAnd();
+                if (rhs == null) {
+                    return null;
+                }
+                lhs = new Or(lhs, rhs);
+            }
+            return lhs;
+        }
+
+        @CheckForNull
+        private Node parseAnd() {
+            Node lhs = parseUnary();
+            while (lhs != null && peek() == TokenType.AND) {
+                ++pos;
+                Node rhs = parseUnary();
+                if (rhs == null) {
+                    return null;
+                }
+                lhs = new And(lhs, rhs);
+            }
+            return lhs;
+        }
+
+        @CheckForNull
+        private Node parseUnary() {
+            TokenType type = peek();
+            if (type == null) {
+                return null;
+            }
+            switch (type) {
+                case NOT: {
+                    ++pos;
+                    TokenType next = peek();
+                    if (next != TokenType.NOT
+                            && next != TokenType.LPAREN
+                            && next != TokenType.TRUE
+                            && next != TokenType.FALSE) {
+                        return null;
+                    }
+                    Node operand = parseUnary();
+                    return (operand != null) ? new Not(operand) : null;
+                }
+                case LPAREN: {
+                    ++pos;
+                    Node inner = parseOr();
+                    if (inner == null || peek() != TokenType.RPAREN) {
+                        return null;
+                    }
+                    ++pos;
+                    return endOfPrimary(inner);
+                }
+                case TRUE:
+                    ++pos;
+                    return endOfPrimary(Constant.TRUE);
+                case FALSE:
+                    ++pos;
+                    return endOfPrimary(Constant.FALSE);
+                default:
+                    return parseComparison();
+            }
+        }
+
+        /**
+         * Rejects comparing booleans, e.g. {@code (a == 'x') == true}.
+         */
+        @CheckForNull
+        private Node endOfPrimary(@Nonnull Node node) {
+            TokenType next = peek();
+            if (next == TokenType.EQ || next == TokenType.NE || next == TokenType.IN) {
+                return null;
+            }
+            return node;
+        }
+
+        @CheckForNull
+        private Node parseComparison() {
+            Operand lhs = parseOperand();
+            if (lhs == null) {
+                return null;
+            }
+            TokenType op = peek();
+            if (op == null) {
+                return null;
+            }
+            Node node;
+            switch (op) {
+                case EQ:
+                case NE: {
+                    ++pos;
+                    Operand rhs = parseOperand();
+                    if (rhs == null) {
+                        return null;
+                    }
+                    node = new Equals(lhs, rhs);
+                    if (op == TokenType.NE) {
+                        node = new Not(node);
+                    }
+                    break;
+                }
+                case IN: {
+                    ++pos;
+                    Set<String> candidates = parseList();
+                    if (candidates == null) {
+                        return null;
+                    }
+                    node = new In(lhs, candidates);
+                    break;
+                }
+                default:
+                    return null;
+            }
+            return endOfPrimary(node);
+        }
+
+        @CheckForNull
+        private Operand parseOperand() {
+            if (atEnd()) {
+                return null;
+            }
+            Token token = tokens.get(pos);
+            switch (token.type) {
+                case IDENTIFIER:
+                    ++pos;
+                    variables.add(token.text);
+                    return new Operand(token.text, null);
+                case STRING:
+                    ++pos;
+                    return new Operand(null, token.text);
+                default:
+                    return null;
+            }
+        }
+
+        @CheckForNull
+        private Set<String> parseList() {
+            if (peek() != TokenType.LBRACKET) {
+                return null;
+            }
+            ++pos;
+            Set<String> values = new HashSet<>();
+            if (peek() == TokenType.RBRACKET) {
+                ++pos;
+                return values;
+            }
+            while (true) {
+                if (peek() != TokenType.STRING) {
+                    return null;
+                }
+                values.add(tokens.get(pos).text);
+                ++pos;
+                TokenType next = peek();
+                if (next == TokenType.RBRACKET) {
+                    ++pos;
+                    return values;
+                }
+                if (next != TokenType.COMMA) {
+                    return null;
+                }
+                ++pos;
+            }
+        }
+    }
+
+    private interface Node {
+        boolean evaluate(@Nonnull Map<String, String> values);
+    }
+
+    private static class Operand {
+        @CheckForNull
+        private final String variable;
+
+        @CheckForNull
+        private final String literal;
+
+        Operand(@CheckForNull String variable, @CheckForNull String literal) {
+            this.variable = variable;
+            this.literal = literal;
+        }
+
+        @CheckForNull
+        String get(@Nonnull Map<String, String> values) {
+            return (variable != null) ? values.get(variable) : literal;
+        }
+    }
+
+    private static class Constant implements Node {
+        static final Constant TRUE = new Constant(true);
+        static final Constant FALSE = new Constant(false);
+
+        private final boolean value;
+
+        private Constant(boolean value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean evaluate(@Nonnull Map<String, String> values) {
+            return value;
+        }
+    }
+
+    private static class Equals implements Node {
+        private final Operand lhs;
+        private final Operand rhs;
+
+        Equals(Operand lhs, Operand rhs) {
+            this.lhs = lhs;
+            this.rhs = rhs;
+        }
+
+        @Override
+        public boolean evaluate(@Nonnull Map<String, String> values) {
+            String l = lhs.get(values);
+            String r = rhs.get(values);
+            return (l == null) ? (r == null) : l.equals(r);
+        }
+    }
+
+    private static class In implements Node {
+        private final Operand operand;
+        private final Set<String> candidates;
+
+        In(Operand operand, Set<String> candidates) {
+            this.operand = operand;
+            this.candidates = candidates;
+        }
+
+        @Override
+        public boolean evaluate(@Nonnull Map<String, String> values) {
+            return candidates.contains(operand.get(values));
+        }
+    }
+
+    private static class Not implements Node {
+        private final Node operand;
+
+        Not(Node operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public boolean evaluate(@Nonnull Map<String, String> values) {
+            return !operand.evaluate(values);
+        }
+    }
+
+    private static class And implements Node {
+        private final Node lhs;
+        private final Node rhs;
+
+        And(Node lhs, Node rhs) {
+            this.lhs = lhs;
+            this.rhs = rhs;
+        }
+
+        @Override
+        public boolean evaluate(@Nonnull Map<String, String> values) {
+            return lhs.evaluate(values) && rhs.evaluate(values);
+        }
+    }
+
+    private static class Or implements Node {
+        private final Node lhs;
+        private final Node rhs;
+
+        Or(Node lhs, Node rhs) {
+            this.lhs = lhs;
+            this.rhs = rhs;
+        }
+
+        @Override
+        public boolean evaluate(@Nonnull Map<String, String> values) {
+            return lhs.evaluate(values) || rhs.evaluate(values);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import hudson.Extension;
+import hudson.Util;
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixConfiguration;
+import hudson.matrix.MatrixProject;
+import hudson.model.Result;
+import hudson.plugins.matrix_configuration_parameter.CombinationHistory;
+import hudson.plugins.matrix_configuration_parameter.CombinationIndex;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import org.kohsuke.stapler.DataBoundConstructor;
+
+/**
+ * Shortcut to select combinations that finish within a time budget.
+ *
+ * Combinations failed in their latest runs come first, and then ones run least recently.
+ * Durations are estimated from {@link CombinationHistory},
+ * and combinations are assigned in that order to the least loaded of executors
+ * as far as the executor finishes within the budget.
+ *
+ * @since 1.3.4
+ */
+public class BudgetShortcut extends MatrixCombinationsShortcut {
+    private final String name;
+    private final int budget;
+    private final int executors;
+
+    /**
+     * ctor
+     *
+     * @param name name to display
+     * @param budget time budget in minutes
+     * @param executors number of executors to run combinations in parallel
+     */
+    @DataBoundConstructor
+    public BudgetShortcut(String name, int budget, int executors) {
+        this.name = Util.fixNull(name);
+        this.budget = Math.max(budget, 0);
+        this.executors = Math.max(executors, 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return time budget in minutes
+     */
+    public int getBudget() {
+        return budget;
+    }
+
+    /**
+     * @return number of executors to run combinations in parallel
+     */
+    public int getExecutors() {
+        return executors;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getId() {
+        return toId("budget", getName());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Collection<Combination> getCombinations(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        return toCombinations(project.getAxes(), getCombinationIndices(project, build));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public BitSet getCombinationIndices(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        AxisList axes = project.getAxes();
+        CombinationHistory history = CombinationHistory.of(project);
+        List<Candidate> candidates = new ArrayList<>();
+        for (MatrixConfiguration c : project.getActiveConfigurations()) {
+            int index = CombinationIndex.indexOf(axes, c.getCombination());
+            if (index < 0) {
+                continue;
+            }
+            CombinationHistory.Entry latest = history.getLatest(c.getCombination());
+            long duration = history.getEstimatedDuration(c.getCombination());
+            if (duration < 0) {
+                duration = c.getEstimatedDuration();
+            }
+            candidates.add(new Candidate(
+                    index,
+                    latest != null && latest.getResult() != null && latest.getResult().isWorseThan(Result.SUCCESS),
+                    (latest != null) ? latest.getBuildNumber() : 0,
+                    duration));
+        }
+        return select(candidates, TimeUnit.MINUTES.toMillis(getBudget()), getExecutors());
+    }
+
+    /**
+     * Assigns candidates in the order of priority to the least loaded executor.
+     * This is a greedy approximation, as the optimal packing is NP-hard.
+     *
+     * @param candidates candidates
+     * @param budget time budget in milliseconds
+     * @param executors number of executors
+     * @return indices of selected candidates
+     */
+    @Nonnull
+    static BitSet select(@Nonnull List<Candidate> candidates, long budget, int executors) {
+        // unknown durations are assumed as the average of known ones
+        long total = 0;
+        int known = 0;
+        for (Candidate c : candidates) {
+            if (c.duration >= 0) {
+                total += c.duration;
+                ++known;
+            }
+        }
+        long unknown = (known > 0) ? total / known : 0;
+
+        List<Candidate> sorted = new ArrayList<>(candidates);
+        Collections.sort(sorted, PRIORITY);
+        PriorityQueue<Long> loads = new PriorityQueue<>();
+        for (int i = 0; i < executors; ++i) {
+            loads.add(0L);
+        }
+        BitSet indices = new BitSet();
+        for (Candidate c : sorted) {
+            long duration = (c.duration >= 0) ? c.duration : unknown;
+            long load = loads.peek();
+            if (load + duration > budget) {
+                // a shorter one may still fit
+                continue;
+            }
+            loads.poll();
+            loads.add(load + duration);
+            indices.set(c.index);
+        }
+        return indices;
+    }
+
+    /**
+     * Failed ones first, more recently failed first.
+     * Then ones run less recently first.
+     */
+    private static final Comparator<Candidate> PRIORITY = new Comparator<Candidate>() {
+        @Override
+        public int compare(Candidate a, Candidate b) {
+            if (a.failed != b.failed) {
+                return a.failed ? -1 : 1;
+            }
+            if (a.lastBuildNumber != b.lastBuildNumber) {
+                return a.failed
+                        ? Integer.compare(b.lastBuildNumber, a.lastBuildNumber)
+                        : Integer.compare(a.lastBuildNumber, b.lastBuildNumber);
+            }
+            return Integer.compare(a.index, b.index);
+        }
+    };
+
+    /**
+     * A combination to select.
+     */
+    static final class Candidate {
+        final int index;
+        final boolean failed;
+        final int lastBuildNumber;
+        final long duration;
+
+        /**
+         * @param index index of the combination
+         * @param failed whether the latest run failed
+         * @param lastBuildNumber the number of the latest build running the combination, {@code 0} if never run.
+         * @param duration estimated duration in milliseconds, or {@code -1} if unknown.
+         */
+        Candidate(int index, boolean failed, int lastBuildNumber, long duration) {
+            this.index = index;
+            this.failed = failed;
+            this.lastBuildNumber = lastBuildNumber;
+            this.duration = duration;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
+    /**
+     * Not until the history is loaded, as results computed from the partial history are wrong.
+     *
+     * @param project the target project.
+     * @return whether the history of the project is loaded
+     */
+    @Override
+    public boolean isCacheable(@Nonnull MatrixProject project) {
+        return CombinationHistory.of(project).isLoaded();
+    }
+
+    /**
+     * Descriptor for {@link BudgetShortcut}
+     */
+    @Extension
+    public static class DescriptorImpl extends MatrixCombinationsShortcutDescriptor {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getDisplayName() {
+            return Messages.BudgetShortcut_DisplayName();
+        }
+    }
+}
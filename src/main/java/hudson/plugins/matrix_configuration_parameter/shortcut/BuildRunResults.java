@@ -0,0 +1,161 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixRun;
+import hudson.model.Result;
+import hudson.plugins.matrix_configuration_parameter.CombinationIndex;
+import hudson.plugins.matrix_configuration_parameter.CombinationResultsAction;
+import java.lang.ref.WeakReference;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * Snapshot of runs of a build and their results, shared by shortcuts.
+ *
+ * Results are read from {@link CombinationResultsAction} if the build has it.
+ * Otherwise, runs are loaded at most once for each of {@link MatrixBuild#getExactRuns()} and {@link MatrixBuild#getRuns()}.
+ * Obtain one with {@link ShortcutCombinationsCache#getRunResults(hudson.matrix.MatrixProject, MatrixBuild)}.
+ */
+final class BuildRunResults {
+    @Nonnull
+    private final AxisList axes;
+
+    /**
+     * Weakly referred as cached with the project.
+     */
+    @Nonnull
+    private final WeakReference<MatrixBuild> build;
+
+    @CheckForNull
+    private final CombinationResultsAction summary;
+
+    @CheckForNull
+    private Runs exactRuns;
+
+    @CheckForNull
+    private Runs runs;
+
+    BuildRunResults(@Nonnull AxisList axes, @Nonnull MatrixBuild build) {
+        this.axes = axes;
+        this.build = new WeakReference<MatrixBuild>(build);
+        this.summary = CombinationResultsAction.of(build);
+    }
+
+    /**
+     * @param build a build
+     * @return whether this is for that build instance, which is not reloaded since.
+     */
+    boolean isFor(@Nonnull MatrixBuild build) {
+        return this.build.get() == build;
+    }
+
+    /**
+     * @param exact whether to test runs of the build only, or also the latest runs of other configurations.
+     * @return indices of combinations with runs. Must not be modified.
+     */
+    @Nonnull
+    BitSet getRunIndices(boolean exact) {
+        if (summary != null) {
+            return summary.getRunIndices(exact);
+        }
+        return getRuns(exact).all;
+    }
+
+    /**
+     * @param exact whether to test runs of the build only, or also the latest runs of other configurations.
+     * @param results results to test
+     * @return indices of combinations with runs of any of the results
+     */
+    @Nonnull
+    BitSet getResultIndices(boolean exact, @Nonnull Collection<Result> results) {
+        if (summary != null) {
+            return summary.getResultIndices(exact, results);
+        }
+        Runs runs = getRuns(exact);
+        BitSet indices = new BitSet();
+        for (Result result : results) {
+            BitSet resultIndices = runs.byResult.get(result);
+            if (resultIndices != null) {
+                indices.or(resultIndices);
+            }
+        }
+        return indices;
+    }
+
+    @Nonnull
+    private synchronized Runs getRuns(boolean exact) {
+        MatrixBuild build = this.build.get();
+        if (build == null) {
+            // not reachable as callers obtain this with the build
+            throw new IllegalStateException("The build is already unloaded");
+        }
+        if (exact) {
+            if (exactRuns == null) {
+                exactRuns = new Runs(axes, build.getExactRuns());
+            }
+            return exactRuns;
+        }
+        if (runs == null) {
+            runs = new Runs(axes, build.getRuns());
+        }
+        return runs;
+    }
+
+    private static class Runs {
+        @Nonnull
+        final BitSet all = new BitSet();
+
+        @Nonnull
+        final Map<Result, BitSet> byResult = new HashMap<Result, BitSet>();
+
+        Runs(@Nonnull AxisList axes, @Nonnull Collection<MatrixRun> runs) {
+            for (MatrixRun run : runs) {
+                int index = CombinationIndex.indexOf(axes, run.getParent().getCombination());
+                if (index < 0) {
+                    continue;
+                }
+                all.set(index);
+                Result result = run.getResult();
+                if (result == null) {
+                    continue;
+                }
+                BitSet indices = byResult.get(result);
+                if (indices == null) {
+                    indices = new BitSet();
+                    byResult.put(result, indices);
+                }
+                indices.set(index);
+            }
+        }
+    }
+}
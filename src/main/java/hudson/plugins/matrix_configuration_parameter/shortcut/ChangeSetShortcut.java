@@ -0,0 +1,313 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import hudson.Extension;
+import hudson.Util;
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixConfiguration;
+import hudson.matrix.MatrixProject;
+import hudson.scm.ChangeLogSet;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import org.kohsuke.stapler.DataBoundConstructor;
+
+/**
+ * Shortcut to select combinations affected by changes of the build,
+ * mapping changed paths to axis values with rules like {@code native/win/** os=windows}.
+ *
+ * Changed paths not mapped by any rule select all active combinations.
+ *
+ * @since 1.3.4
+ */
+public class ChangeSetShortcut extends MatrixCombinationsShortcut {
+    private final String name;
+    private final String rules;
+
+    @CheckForNull
+    private transient List<Rule> parsedRules;
+
+    /**
+     * ctor
+     *
+     * @param name name to display
+     * @param rules rules, one per line
+     */
+    @DataBoundConstructor
+    public ChangeSetShortcut(String name, String rules) {
+        this.name = Util.fixNull(name);
+        this.rules = Util.fixNull(rules);
+    }
+
+    /**
+     * @return rules, one per line
+     */
+    @Nonnull
+    public String getRules() {
+        return rules;
+    }
+
+    @Nonnull
+    private List<Rule> getParsedRules() {
+        List<Rule> parsed = parsedRules;
+        if (parsed == null) {
+            parsed = Rule.parse(getRules());
+            parsedRules = parsed;
+        }
+        return parsed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getId() {
+        return toId("changes", getName());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Collection<Combination> getCombinations(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        return toCombinations(project.getAxes(), getCombinationIndices(project, build));
+    }
+
+    /**
+     * Uses changes recorded in the target build,
+     * that is, changes of the latest build for a new build.
+     *
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public BitSet getCombinationIndices(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        if (build == null) {
+            return new BitSet();
+        }
+        Set<String> paths = new LinkedHashSet<>();
+        for (ChangeLogSet<? extends ChangeLogSet.Entry> changeSet : build.getChangeSets()) {
+            for (ChangeLogSet.Entry entry : changeSet) {
+                paths.addAll(entry.getAffectedPaths());
+            }
+        }
+        return getCombinationIndices(project, paths);
+    }
+
+    /**
+     * @param project the target project
+     * @param paths changed paths
+     * @return indices of combinations affected by the paths
+     */
+    @Nonnull
+    BitSet getCombinationIndices(@Nonnull MatrixProject project, @Nonnull Collection<String> paths) {
+        List<Rule> matched = new ArrayList<>();
+        boolean all = false;
+        for (String path : paths) {
+            boolean mapped = false;
+            for (Rule rule : getParsedRules()) {
+                if (rule.matches(path)) {
+                    mapped = true;
+                    if (!matched.contains(rule)) {
+                        matched.add(rule);
+                    }
+                }
+            }
+            if (!mapped) {
+                all = true;
+                break;
+            }
+        }
+
+        AxisList axes = project.getAxes();
+        BitSet indices = new BitSet();
+        if (!all && matched.isEmpty()) {
+            return indices;
+        }
+        for (MatrixConfiguration c : project.getActiveConfigurations()) {
+            if (all || matchesAny(matched, c.getCombination())) {
+                setIndex(indices, axes, c.getCombination());
+            }
+        }
+        return indices;
+    }
+
+    private static boolean matchesAny(@Nonnull List<Rule> rules, @Nonnull Combination c) {
+        for (Rule rule : rules) {
+            if (rule.matches(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
+    /**
+     * A rule mapping paths matching a glob to combinations with axis values.
+     */
+    static final class Rule {
+        @Nonnull
+        private final Pattern pattern;
+
+        @Nonnull
+        private final Map<String, String> values;
+
+        Rule(@Nonnull String glob, @Nonnull Map<String, String> values) {
+            this.pattern = Pattern.compile(toRegex(glob));
+            this.values = values;
+        }
+
+        /**
+         * Parses rules in lines of {@code glob axis=value[,axis=value...]}.
+         * Blank lines, lines starting with {@code #} and malformed lines are ignored.
+         *
+         * @param rules rules
+         * @return parsed rules
+         */
+        @Nonnull
+        static List<Rule> parse(@Nonnull String rules) {
+            List<Rule> parsed = new ArrayList<>();
+            for (String line : rules.split("\\r?\\n")) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] tokens = line.split("\\s+", 2);
+                if (tokens.length < 2) {
+                    continue;
+                }
+                Map<String, String> values = new LinkedHashMap<>();
+                for (String assignment : tokens[1].split(",")) {
+                    int eq = assignment.indexOf('=');
+                    if (eq <= 0) {
+                        values = null;
+                        break;
+                    }
+                    values.put(assignment.substring(0, eq).trim(), assignment.substring(eq + 1).trim());
+                }
+                if (values != null) {
+                    parsed.add(new Rule(tokens[0], Collections.unmodifiableMap(values)));
+                }
+            }
+            return parsed;
+        }
+
+        /**
+         * Converts a glob to a regular expression.
+         * {@code **} matches any directories, {@code *} and {@code ?} match characters other than {@code /}.
+         * A glob ending with {@code /} matches everything in that directory.
+         */
+        @Nonnull
+        static String toRegex(@Nonnull String glob) {
+            if (glob.endsWith("/")) {
+                glob += "**";
+            }
+            StringBuilder sb = new StringBuilder();
+            int literal = 0;
+            for (int i = 0; i < glob.length(); ++i) {
+                char c = glob.charAt(i);
+                if (c != '*' && c != '?') {
+                    continue;
+                }
+                if (literal < i) {
+                    sb.append(Pattern.quote(glob.substring(literal, i)));
+                }
+                if (c == '?') {
+                    sb.append("[^/]");
+                } else if (glob.startsWith("**/", i)) {
+                    sb.append("(?:.*/)?");
+                    i += 2;
+                } else if (glob.startsWith("**", i)) {
+                    sb.append(".*");
+                    ++i;
+                } else {
+                    sb.append("[^/]*");
+                }
+                literal = i + 1;
+            }
+            if (literal < glob.length()) {
+                sb.append(Pattern.quote(glob.substring(literal)));
+            }
+            return sb.toString();
+        }
+
+        boolean matches(@Nonnull String path) {
+            return pattern.matcher(path).matches();
+        }
+
+        boolean matches(@Nonnull Combination c) {
+            for (Map.Entry<String, String> e : values.entrySet()) {
+                if (!e.getValue().equals(c.get(e.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Descriptor for {@link ChangeSetShortcut}
+     */
+    @Extension
+    public static class DescriptorImpl extends MatrixCombinationsShortcutDescriptor {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getDisplayName() {
+            return Messages.ChangeSetShortcut_DisplayName();
+        }
+    }
+}
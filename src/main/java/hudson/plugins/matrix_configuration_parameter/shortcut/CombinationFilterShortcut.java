@@ -29,10 +29,13 @@ import com.google.common.base.Predicate;
 import com.google.common.collect.Collections2;
 import hudson.Extension;
 import hudson.Util;
+import hudson.matrix.AxisList;
 import hudson.matrix.Combination;
 import hudson.matrix.MatrixBuild;
 import hudson.matrix.MatrixConfiguration;
 import hudson.matrix.MatrixProject;
+import hudson.plugins.matrix_configuration_parameter.CombinationFilterCache;
+import java.util.BitSet;
 import java.util.Collection;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
@@ -83,11 +86,35 @@ public class CombinationFilterShortcut extends MatrixCombinationsShortcut {
                 new Predicate<Combination>() {
                     @Override
                     public boolean apply(Combination c) {
-                        return c.evalGroovyExpression(project.getAxes(), getCombinationFilter());
+                        return CombinationFilterCache.evaluate(project.getAxes(), c, getCombinationFilter());
                     }
                 });
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public BitSet getCombinationIndices(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        AxisList axes = project.getAxes();
+        BitSet indices = new BitSet();
+        for (MatrixConfiguration c : project.getActiveConfigurations()) {
+            if (CombinationFilterCache.evaluate(axes, c.getCombination(), getCombinationFilter())) {
+                setIndex(indices, axes, c.getCombination());
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -101,7 +128,7 @@ public class CombinationFilterShortcut extends MatrixCombinationsShortcut {
      */
     @Override
     public String getId() {
-        return String.format("filter-%s", getName().replaceAll("[^A-Za-z0-9]+", "-"));
+        return toId("filter", getName());
     }
 
     /**
@@ -0,0 +1,233 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import hudson.Extension;
+import hudson.Util;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixProject;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import org.jvnet.localizer.Localizable;
+import org.kohsuke.stapler.DataBoundConstructor;
+
+/**
+ * Shortcut to combine other shortcuts with set operations,
+ * like "Failed and Previous but not os=windows".
+ * Composites can be nested to mix operations,
+ * like the difference of the union of "Failed" and "Previous" and a filter for {@code os == 'windows'}.
+ *
+ * Works on indices of nested shortcuts, which are taken from {@link ShortcutCombinationsCache} if cacheable.
+ *
+ * @since 1.3.4
+ */
+public class CompositeShortcut extends MatrixCombinationsShortcut {
+    /**
+     * Set operations to combine shortcuts.
+     */
+    public enum Operation {
+        /**
+         * Combinations selected by any of shortcuts.
+         */
+        UNION(Messages._CompositeShortcut_Operation_Union()),
+        /**
+         * Combinations selected by all of shortcuts.
+         */
+        INTERSECTION(Messages._CompositeShortcut_Operation_Intersection()),
+        /**
+         * Combinations selected by the first shortcut and not by any of the others.
+         */
+        DIFFERENCE(Messages._CompositeShortcut_Operation_Difference());
+
+        private final Localizable displayName;
+
+        Operation(Localizable displayName) {
+            this.displayName = displayName;
+        }
+
+        /**
+         * @return name to display
+         */
+        public String getDisplayName() {
+            return displayName.toString();
+        }
+    }
+
+    private final String name;
+    private final Operation operation;
+    private final List<MatrixCombinationsShortcut> shortcuts;
+
+    /**
+     * ctor
+     *
+     * @param name name to display
+     * @param operation operation to combine shortcuts
+     * @param shortcuts shortcuts to combine
+     */
+    @DataBoundConstructor
+    public CompositeShortcut(
+            String name, @CheckForNull Operation operation, @CheckForNull List<MatrixCombinationsShortcut> shortcuts) {
+        this.name = Util.fixNull(name);
+        this.operation = (operation != null) ? operation : Operation.UNION;
+        this.shortcuts = (shortcuts != null)
+                ? Collections.unmodifiableList(new ArrayList<>(shortcuts))
+                : Collections.<MatrixCombinationsShortcut>emptyList();
+    }
+
+    /**
+     * @return operation to combine shortcuts
+     */
+    @Nonnull
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return shortcuts to combine
+     */
+    @Nonnull
+    public List<MatrixCombinationsShortcut> getShortcuts() {
+        return shortcuts;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getId() {
+        return toId("composite", getName());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Collection<Combination> getCombinations(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        return toCombinations(project.getAxes(), getCombinationIndices(project, build));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public BitSet getCombinationIndices(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        BitSet indices = null;
+        for (MatrixCombinationsShortcut shortcut : getShortcuts()) {
+            BitSet child = shortcut.getCachedCombinationIndices(project, build);
+            if (indices == null) {
+                // cached ones must not be modified
+                indices = (BitSet) child.clone();
+                continue;
+            }
+            switch (getOperation()) {
+                case INTERSECTION:
+                    indices.and(child);
+                    break;
+                case DIFFERENCE:
+                    indices.andNot(child);
+                    break;
+                default:
+                    indices.or(child);
+                    break;
+            }
+            if (indices.isEmpty() && getOperation() != Operation.UNION) {
+                break;
+            }
+        }
+        return (indices != null) ? indices : new BitSet();
+    }
+
+    /**
+     * Cacheable if all of nested shortcuts are.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCacheable() {
+        for (MatrixCombinationsShortcut shortcut : getShortcuts()) {
+            if (!shortcut.isCacheable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Cacheable for the project if all of nested shortcuts are.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCacheable(@Nonnull MatrixProject project) {
+        for (MatrixCombinationsShortcut shortcut : getShortcuts()) {
+            if (!shortcut.isCacheable(project)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Descriptor for {@link CompositeShortcut}
+     */
+    @Extension
+    public static class DescriptorImpl extends MatrixCombinationsShortcutDescriptor {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getDisplayName() {
+            return Messages.CompositeShortcut_DisplayName();
+        }
+
+        /**
+         * Includes composites themselves to mix operations.
+         * Forms of nested ones are rendered on demand by {@code f:hetero-list}, so they don't recurse.
+         *
+         * @return descriptors of shortcuts available to combine
+         */
+        public List<MatrixCombinationsShortcutDescriptor> getShortcutDescriptorList() {
+            return MatrixCombinationsShortcutDescriptor.all();
+        }
+    }
+}
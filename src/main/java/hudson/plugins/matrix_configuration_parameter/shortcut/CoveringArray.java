@@ -0,0 +1,173 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import javax.annotation.Nonnull;
+
+/**
+ * Generates a t-wise covering array from candidate combinations,
+ * that is, a subset of candidates where every combination of values of any t axes
+ * appearing in candidates appears at least once.
+ *
+ * Combinations are indices in the mixed radix of axis sizes,
+ * the same as {@link hudson.matrix.Combination#toIndex(hudson.matrix.AxisList)}.
+ * Candidates covering the most uncovered tuples are picked greedily.
+ * As the number of uncovered tuples of a candidate never increases,
+ * candidates are re-scored lazily only when they come to the top of the queue.
+ */
+final class CoveringArray {
+    /**
+     * Sizes of axes
+     */
+    @Nonnull
+    private final int[] radices;
+
+    /**
+     * Sets of t axes
+     */
+    @Nonnull
+    private final List<int[]> subsets = new ArrayList<>();
+
+    /**
+     * Id of the first tuple for each of {@link #subsets}
+     */
+    @Nonnull
+    private final int[] offsets;
+
+    private CoveringArray(@Nonnull int[] radices, int strength) {
+        this.radices = radices;
+        collectSubsets(new int[strength], 0, 0);
+        offsets = new int[subsets.size()];
+        long offset = 0;
+        for (int i = 0; i < subsets.size(); ++i) {
+            offsets[i] = (int) offset;
+            long size = 1;
+            for (int axis : subsets.get(i)) {
+                size *= radices[axis];
+            }
+            offset += size;
+            if (offset > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Too many tuples to cover");
+            }
+        }
+    }
+
+    private void collectSubsets(@Nonnull int[] subset, int pos, int from) {
+        if (pos == subset.length) {
+            subsets.add(subset.clone());
+            return;
+        }
+        for (int axis = from; axis < radices.length; ++axis) {
+            subset[pos] = axis;
+            collectSubsets(subset, pos + 1, axis + 1);
+        }
+    }
+
+    /**
+     * @param radices sizes of axes
+     * @param candidates indices of combinations to pick from
+     * @param strength t
+     * @return indices of picked combinations
+     * @throws IllegalArgumentException too many tuples to handle
+     */
+    @Nonnull
+    static BitSet generate(@Nonnull int[] radices, @Nonnull BitSet candidates, int strength) {
+        if (strength >= radices.length) {
+            // all combinations are needed
+            return (BitSet) candidates.clone();
+        }
+        return new CoveringArray(radices, Math.max(strength, 1)).generate(candidates);
+    }
+
+    @Nonnull
+    private BitSet generate(@Nonnull BitSet candidates) {
+        int total = subsets.size();
+        int[] digits = new int[radices.length];
+        BitSet covered = new BitSet();
+        BitSet selected = new BitSet();
+
+        // highest score first, and then the lowest index
+        PriorityQueue<Long> queue = new PriorityQueue<>();
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            queue.add(entry(total, total, i));
+        }
+        while (!queue.isEmpty()) {
+            long top = queue.poll();
+            int index = (int) top;
+            toDigits(index, digits);
+            int score = countUncovered(digits, covered);
+            if (score == 0) {
+                continue;
+            }
+            if (!queue.isEmpty() && score < score(total, queue.peek())) {
+                // another may cover more
+                queue.add(entry(total, score, index));
+                continue;
+            }
+            for (int s = 0; s < total; ++s) {
+                covered.set(tupleOf(s, digits));
+            }
+            selected.set(index);
+        }
+        return selected;
+    }
+
+    private static long entry(int total, int score, int index) {
+        return ((long) (total - score) << 32) | index;
+    }
+
+    private static int score(int total, long entry) {
+        return total - (int) (entry >>> 32);
+    }
+
+    private void toDigits(int index, @Nonnull int[] digits) {
+        for (int axis = radices.length - 1; axis >= 0; --axis) {
+            digits[axis] = index % radices[axis];
+            index /= radices[axis];
+        }
+    }
+
+    private int tupleOf(int s, @Nonnull int[] digits) {
+        int tuple = 0;
+        for (int axis : subsets.get(s)) {
+            tuple = tuple * radices[axis] + digits[axis];
+        }
+        return offsets[s] + tuple;
+    }
+
+    private int countUncovered(@Nonnull int[] digits, @Nonnull BitSet covered) {
+        int count = 0;
+        for (int s = 0; s < subsets.size(); ++s) {
+            if (!covered.get(tupleOf(s, digits))) {
+                ++count;
+            }
+        }
+        return count;
+    }
+}
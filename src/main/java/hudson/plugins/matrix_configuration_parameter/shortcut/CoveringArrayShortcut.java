@@ -0,0 +1,229 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import hudson.Extension;
+import hudson.Util;
+import hudson.matrix.Axis;
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixConfiguration;
+import hudson.matrix.MatrixProject;
+import hudson.util.ListBoxModel;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import org.kohsuke.stapler.DataBoundConstructor;
+
+/**
+ * Shortcut to select a small set of active combinations
+ * where every combination of values of any t axes appears at least once,
+ * which detects most of bugs caused by interactions of a few axes.
+ *
+ * Results are cached for each axes and active combinations,
+ * and reused over builds until they change.
+ *
+ * @since 1.3.4
+ */
+public class CoveringArrayShortcut extends MatrixCombinationsShortcut {
+    private static final Logger LOGGER = Logger.getLogger(CoveringArrayShortcut.class.getName());
+
+    private static final int MAX_CACHE_SIZE = 16;
+
+    private static final Map<Key, BitSet> CACHE = new LinkedHashMap<Key, BitSet>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, BitSet> eldest) {
+            return size() > MAX_CACHE_SIZE;
+        }
+    };
+
+    private final String name;
+    private final int strength;
+
+    /**
+     * ctor
+     *
+     * @param name name to display
+     * @param strength number of axes whose combinations of values are covered. 2 for pairwise.
+     */
+    @DataBoundConstructor
+    public CoveringArrayShortcut(String name, int strength) {
+        this.name = Util.fixNull(name);
+        this.strength = Math.max(strength, 1);
+    }
+
+    /**
+     * @return number of axes whose combinations of values are covered
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getId() {
+        return String.format("covering-%d", getStrength());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Collection<Combination> getCombinations(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        return toCombinations(project.getAxes(), getCombinationIndices(project, build));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public BitSet getCombinationIndices(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        AxisList axes = project.getAxes();
+        BitSet active = new BitSet();
+        for (MatrixConfiguration c : project.getActiveConfigurations()) {
+            setIndex(active, axes, c.getCombination());
+        }
+        Key key = new Key(axes, active, getStrength());
+        synchronized (CACHE) {
+            BitSet indices = CACHE.get(key);
+            if (indices != null) {
+                return (BitSet) indices.clone();
+            }
+        }
+        int[] radices = new int[axes.size()];
+        for (int i = 0; i < axes.size(); ++i) {
+            radices[i] = axes.get(i).size();
+        }
+        BitSet indices;
+        try {
+            indices = CoveringArray.generate(radices, active, getStrength());
+        } catch (IllegalArgumentException e) {
+            LOGGER.log(Level.WARNING, String.format("Selects all combinations of %s", project.getFullName()), e);
+            indices = active;
+        }
+        synchronized (CACHE) {
+            CACHE.put(key, indices);
+        }
+        return (BitSet) indices.clone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
+    /**
+     * Axes and active combinations the result depends on.
+     */
+    private static final class Key {
+        @Nonnull
+        private final List<List<String>> axes;
+
+        @Nonnull
+        private final BitSet active;
+
+        private final int strength;
+
+        Key(@Nonnull AxisList axes, @Nonnull BitSet active, int strength) {
+            List<List<String>> values = new ArrayList<>();
+            for (Axis axis : axes) {
+                List<String> axisValues = new ArrayList<>();
+                axisValues.add(axis.getName());
+                axisValues.addAll(axis.getValues());
+                values.add(Collections.unmodifiableList(axisValues));
+            }
+            this.axes = values;
+            this.active = active;
+            this.strength = strength;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return strength == other.strength && axes.equals(other.axes) && active.equals(other.active);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(axes, active, strength);
+        }
+    }
+
+    /**
+     * Descriptor for {@link CoveringArrayShortcut}
+     */
+    @Extension
+    public static class DescriptorImpl extends MatrixCombinationsShortcutDescriptor {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getDisplayName() {
+            return Messages.CoveringArrayShortcut_DisplayName();
+        }
+
+        /**
+         * @return choices for strength
+         */
+        public ListBoxModel doFillStrengthItems() {
+            ListBoxModel items = new ListBoxModel();
+            items.add(Messages.CoveringArrayShortcut_Pairwise(), "2");
+            items.add(Messages.CoveringArrayShortcut_ThreeWise(), "3");
+            return items;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import hudson.Extension;
+import hudson.Util;
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixConfiguration;
+import hudson.matrix.MatrixProject;
+import hudson.model.Computer;
+import hudson.model.Label;
+import hudson.model.Node;
+import hudson.plugins.matrix_configuration_parameter.CombinationIndex;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import jenkins.model.Jenkins;
+import org.kohsuke.stapler.DataBoundConstructor;
+
+/**
+ * Shortcut to select active combinations that executors can take now,
+ * so that child builds don't wait in the queue for scarce labels.
+ *
+ * Executors of online nodes accepting tasks are assigned to combinations
+ * with fewer matching nodes first. Not cached as executors change every moment.
+ *
+ * @since 1.3.4
+ */
+public class ExecutorShortcut extends MatrixCombinationsShortcut {
+    private final String name;
+    private final boolean idleOnly;
+
+    /**
+     * ctor
+     *
+     * @param name name to display
+     * @param idleOnly {@code true} to select combinations that can start immediately,
+     *     {@code false} to select combinations that run in one wave of all executors.
+     */
+    @DataBoundConstructor
+    public ExecutorShortcut(String name, boolean idleOnly) {
+        this.name = Util.fixNull(name);
+        this.idleOnly = idleOnly;
+    }
+
+    /**
+     * @return {@code true} to count only idle executors
+     */
+    public boolean isIdleOnly() {
+        return idleOnly;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getId() {
+        return isIdleOnly() ? "executors-idle" : "executors";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Collection<Combination> getCombinations(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        return toCombinations(project.getAxes(), getCombinationIndices(project, build));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public BitSet getCombinationIndices(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        List<Node> nodes = new ArrayList<>();
+        List<Integer> capacities = new ArrayList<>();
+        for (Computer computer : Jenkins.get().getComputers()) {
+            Node node = computer.getNode();
+            if (node == null || !computer.isOnline() || !computer.isAcceptingTasks()) {
+                continue;
+            }
+            int capacity = isIdleOnly() ? computer.countIdle() : computer.countExecutors();
+            if (capacity > 0) {
+                nodes.add(node);
+                capacities.add(capacity);
+            }
+        }
+
+        AxisList axes = project.getAxes();
+        List<Candidate> candidates = new ArrayList<>();
+        for (MatrixConfiguration c : project.getActiveConfigurations()) {
+            int index = CombinationIndex.indexOf(axes, c.getCombination());
+            if (index < 0) {
+                continue;
+            }
+            Label label = c.getAssignedLabel();
+            List<Integer> matching = new ArrayList<>();
+            for (int i = 0; i < nodes.size(); ++i) {
+                Node node = nodes.get(i);
+                if ((label != null) ? label.contains(node) : node.getMode() == Node.Mode.NORMAL) {
+                    matching.add(i);
+                }
+            }
+            if (!matching.isEmpty()) {
+                candidates.add(new Candidate(index, matching));
+            }
+        }
+        // assign scarce ones first
+        Collections.sort(candidates, new Comparator<Candidate>() {
+            @Override
+            public int compare(Candidate a, Candidate b) {
+                if (a.nodes.size() != b.nodes.size()) {
+                    return Integer.compare(a.nodes.size(), b.nodes.size());
+                }
+                return Integer.compare(a.index, b.index);
+            }
+        });
+
+        BitSet indices = new BitSet();
+        for (Candidate candidate : candidates) {
+            for (int node : candidate.nodes) {
+                int capacity = capacities.get(node);
+                if (capacity > 0) {
+                    capacities.set(node, capacity - 1);
+                    indices.set(candidate.index);
+                    break;
+                }
+            }
+        }
+        return indices;
+    }
+
+    private static final class Candidate {
+        final int index;
+
+        /**
+         * positions of nodes able to run the combination
+         */
+        @Nonnull
+        final List<Integer> nodes;
+
+        Candidate(int index, @Nonnull List<Integer> nodes) {
+            this.index = index;
+            this.nodes = nodes;
+        }
+    }
+
+    /**
+     * Descriptor for {@link ExecutorShortcut}
+     */
+    @Extension
+    public static class DescriptorImpl extends MatrixCombinationsShortcutDescriptor {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getDisplayName() {
+            return Messages.ExecutorShortcut_DisplayName();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import hudson.Extension;
+import hudson.Util;
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixConfiguration;
+import hudson.matrix.MatrixProject;
+import hudson.model.Result;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import org.kohsuke.stapler.DataBoundConstructor;
+
+/**
+ * Shortcut to select combinations to find which axis value causes failures of the build.
+ *
+ * For each combination failed in the build and each axis,
+ * a combination differing only in that axis tells whether the value of the axis is to blame.
+ * Such neighbours already run in the build are used as they are,
+ * and the fewest neighbours covering the rest are selected greedily.
+ * Failed combinations themselves are also selected to confirm failures in the same run.
+ *
+ * @since 1.3.4
+ */
+public class FaultLocalizationShortcut extends MatrixCombinationsShortcut {
+    private static final List<Result> FAILED = Arrays.asList(Result.UNSTABLE, Result.FAILURE);
+
+    private final String name;
+
+    /**
+     * ctor
+     *
+     * @param name name to display
+     */
+    @DataBoundConstructor
+    public FaultLocalizationShortcut(String name) {
+        this.name = Util.fixNull(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getId() {
+        return "fault-localization";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Collection<Combination> getCombinations(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        return toCombinations(project.getAxes(), getCombinationIndices(project, build));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public BitSet getCombinationIndices(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        if (build == null) {
+            return new BitSet();
+        }
+        AxisList axes = project.getAxes();
+        BitSet active = new BitSet();
+        for (MatrixConfiguration c : project.getActiveConfigurations()) {
+            setIndex(active, axes, c.getCombination());
+        }
+        BuildRunResults runResults = ShortcutCombinationsCache.get().getRunResults(project, build);
+        int[] radices = new int[axes.size()];
+        for (int i = 0; i < axes.size(); ++i) {
+            radices[i] = axes.get(i).size();
+        }
+        // runs of earlier builds may not fail for the same cause
+        return locate(radices, active, runResults.getResultIndices(true, FAILED), runResults.getRunIndices(true));
+    }
+
+    /**
+     * @param radices sizes of axes
+     * @param active indices of active combinations
+     * @param failed indices of failed combinations
+     * @param known indices of combinations whose results are known
+     * @return indices of active failed combinations and combinations to probe
+     */
+    @Nonnull
+    static BitSet locate(
+            @Nonnull int[] radices, @Nonnull BitSet active, @Nonnull BitSet failed, @Nonnull BitSet known) {
+        int[] strides = new int[radices.length];
+        int stride = 1;
+        for (int axis = radices.length - 1; axis >= 0; --axis) {
+            strides[axis] = stride;
+            stride *= radices[axis];
+        }
+
+        // neighbours to (failed combination, axis) pairs they tell about
+        Map<Integer, List<Integer>> probes = new HashMap<>();
+        int pairs = 0;
+        for (int index = failed.nextSetBit(0); index >= 0; index = failed.nextSetBit(index + 1)) {
+            for (int axis = 0; axis < radices.length; ++axis) {
+                int digit = (index / strides[axis]) % radices[axis];
+                List<Integer> neighbours = new ArrayList<>();
+                boolean answered = false;
+                for (int value = 0; value < radices[axis]; ++value) {
+                    int neighbour = index + (value - digit) * strides[axis];
+                    if (value == digit || !active.get(neighbour)) {
+                        continue;
+                    }
+                    if (known.get(neighbour)) {
+                        answered = true;
+                        break;
+                    }
+                    neighbours.add(neighbour);
+                }
+                if (answered || neighbours.isEmpty()) {
+                    continue;
+                }
+                for (int neighbour : neighbours) {
+                    List<Integer> covered = probes.get(neighbour);
+                    if (covered == null) {
+                        covered = new ArrayList<>();
+                        probes.put(neighbour, covered);
+                    }
+                    covered.add(pairs);
+                }
+                ++pairs;
+            }
+        }
+
+        // greedy set cover
+        BitSet coveredPairs = new BitSet();
+        BitSet selected = (BitSet) failed.clone();
+        selected.and(active);
+        while (coveredPairs.cardinality() < pairs) {
+            int best = -1;
+            int bestCount = 0;
+            for (Map.Entry<Integer, List<Integer>> e : probes.entrySet()) {
+                int count = 0;
+                for (int pair : e.getValue()) {
+                    if (!coveredPairs.get(pair)) {
+                        ++count;
+                    }
+                }
+                if (count > bestCount || (count == bestCount && count > 0 && e.getKey() < best)) {
+                    best = e.getKey();
+                    bestCount = count;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            selected.set(best);
+            for (int pair : probes.remove(best)) {
+                coveredPairs.set(pair);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
+    /**
+     * Descriptor for {@link FaultLocalizationShortcut}
+     */
+    @Extension
+    public static class DescriptorImpl extends MatrixCombinationsShortcutDescriptor {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getDisplayName() {
+            return Messages.FaultLocalizationShortcut_DisplayName();
+        }
+    }
+}
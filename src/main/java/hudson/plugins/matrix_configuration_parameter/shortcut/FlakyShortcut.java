@@ -0,0 +1,170 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import hudson.Extension;
+import hudson.Util;
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixConfiguration;
+import hudson.matrix.MatrixProject;
+import hudson.plugins.matrix_configuration_parameter.CombinationHistory;
+import java.util.BitSet;
+import java.util.Collection;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import org.kohsuke.stapler.DataBoundConstructor;
+
+/**
+ * Shortcut to select active combinations whose results flipped between success and failure
+ * more than a threshold in recent builds, or ones not, to rerun or to quarantine noisy combinations.
+ *
+ * Uses {@link CombinationHistory}, which is updated as builds complete.
+ *
+ * @since 1.3.4
+ */
+public class FlakyShortcut extends MatrixCombinationsShortcut {
+    private final String name;
+    private final int builds;
+    private final int flips;
+    private final boolean exclude;
+
+    /**
+     * ctor
+     *
+     * @param name name to display
+     * @param builds number of recent builds to look back
+     * @param flips combinations flipped more than this are flaky
+     * @param exclude {@code true} to select combinations not flaky instead
+     */
+    @DataBoundConstructor
+    public FlakyShortcut(String name, int builds, int flips, boolean exclude) {
+        this.name = Util.fixNull(name);
+        this.builds = Math.max(builds, 1);
+        this.flips = Math.max(flips, 0);
+        this.exclude = exclude;
+    }
+
+    /**
+     * @return number of recent builds to look back
+     */
+    public int getBuilds() {
+        return builds;
+    }
+
+    /**
+     * @return combinations flipped more than this are flaky
+     */
+    public int getFlips() {
+        return flips;
+    }
+
+    /**
+     * @return {@code true} to select combinations not flaky
+     */
+    public boolean isExclude() {
+        return exclude;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getId() {
+        return String.format("%s-%d-%d", isExclude() ? "not-flaky" : "flaky", getFlips(), getBuilds());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Collection<Combination> getCombinations(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        return toCombinations(project.getAxes(), getCombinationIndices(project, build));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public BitSet getCombinationIndices(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        AxisList axes = project.getAxes();
+        CombinationHistory history = CombinationHistory.of(project);
+        int since = history.getBuildNumberSince(getBuilds());
+        BitSet indices = new BitSet();
+        for (MatrixConfiguration c : project.getActiveConfigurations()) {
+            boolean flaky = history.countFlips(c.getCombination(), since) > getFlips();
+            if (flaky != isExclude()) {
+                setIndex(indices, axes, c.getCombination());
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
+    /**
+     * Not until the history is loaded, as results computed from the partial history are wrong.
+     *
+     * @param project the target project.
+     * @return whether the history of the project is loaded
+     */
+    @Override
+    public boolean isCacheable(@Nonnull MatrixProject project) {
+        return CombinationHistory.of(project).isLoaded();
+    }
+
+    /**
+     * Descriptor for {@link FlakyShortcut}
+     */
+    @Extension
+    public static class DescriptorImpl extends MatrixCombinationsShortcutDescriptor {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getDisplayName() {
+            return Messages.FlakyShortcut_DisplayName();
+        }
+    }
+}
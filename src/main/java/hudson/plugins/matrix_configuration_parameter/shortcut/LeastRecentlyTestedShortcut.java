@@ -0,0 +1,160 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import hudson.Extension;
+import hudson.Util;
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixConfiguration;
+import hudson.matrix.MatrixProject;
+import hudson.plugins.matrix_configuration_parameter.CombinationHistory;
+import hudson.plugins.matrix_configuration_parameter.CombinationIndex;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import org.kohsuke.stapler.DataBoundConstructor;
+
+/**
+ * Shortcut to select active combinations gone longest without runs,
+ * so that builds cover the whole matrix in rotation.
+ *
+ * Uses {@link CombinationHistory} and combinations never run come first.
+ *
+ * @since 1.3.4
+ */
+public class LeastRecentlyTestedShortcut extends MatrixCombinationsShortcut {
+    private final String name;
+    private final int count;
+
+    /**
+     * ctor
+     *
+     * @param name name to display
+     * @param count number of combinations to select
+     */
+    @DataBoundConstructor
+    public LeastRecentlyTestedShortcut(String name, int count) {
+        this.name = Util.fixNull(name);
+        this.count = Math.max(count, 0);
+    }
+
+    /**
+     * @return number of combinations to select
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getId() {
+        return String.format("least-recently-tested-%d", getCount());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Collection<Combination> getCombinations(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        return toCombinations(project.getAxes(), getCombinationIndices(project, build));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public BitSet getCombinationIndices(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        AxisList axes = project.getAxes();
+        CombinationHistory history = CombinationHistory.of(project);
+        // the build number of the latest run in upper bits, and the index to break ties in lower bits
+        long[] candidates = new long[project.getActiveConfigurations().size()];
+        int size = 0;
+        for (MatrixConfiguration c : project.getActiveConfigurations()) {
+            int index = CombinationIndex.indexOf(axes, c.getCombination());
+            if (index < 0) {
+                continue;
+            }
+            CombinationHistory.Entry latest = history.getLatest(c.getCombination());
+            candidates[size++] = ((long) ((latest != null) ? latest.getBuildNumber() : 0) << 32) | index;
+        }
+        Arrays.sort(candidates, 0, size);
+        BitSet indices = new BitSet();
+        for (int i = 0; i < size && i < getCount(); ++i) {
+            indices.set((int) candidates[i]);
+        }
+        return indices;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
+    /**
+     * Not until the history is loaded, as results computed from the partial history are wrong.
+     *
+     * @param project the target project.
+     * @return whether the history of the project is loaded
+     */
+    @Override
+    public boolean isCacheable(@Nonnull MatrixProject project) {
+        return CombinationHistory.of(project).isLoaded();
+    }
+
+    /**
+     * Descriptor for {@link LeastRecentlyTestedShortcut}
+     */
+    @Extension
+    public static class DescriptorImpl extends MatrixCombinationsShortcutDescriptor {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getDisplayName() {
+            return Messages.LeastRecentlyTestedShortcut_DisplayName();
+        }
+    }
+}
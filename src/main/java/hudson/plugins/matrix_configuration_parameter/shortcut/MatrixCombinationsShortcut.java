@@ -28,16 +28,20 @@ import com.google.common.base.Function;
 import com.google.common.collect.Collections2;
 import hudson.Extension;
 import hudson.ExtensionPoint;
+import hudson.matrix.AxisList;
 import hudson.matrix.Combination;
 import hudson.matrix.MatrixBuild;
 import hudson.matrix.MatrixConfiguration;
 import hudson.matrix.MatrixProject;
 import hudson.model.AbstractDescribableImpl;
+import hudson.plugins.matrix_configuration_parameter.CombinationIndex;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
-import org.apache.commons.lang.StringUtils;
 import org.kohsuke.stapler.DataBoundConstructor;
 
 /**
@@ -60,6 +64,118 @@ public abstract class MatrixCombinationsShortcut extends AbstractDescribableImpl
     public abstract Collection<Combination> getCombinations(
             @Nonnull MatrixProject project, @CheckForNull MatrixBuild build);
 
+    /**
+     * Return indices of combinations to check for the build.
+     * Indices are the same as {@link Combination#toIndex(AxisList)} for the axes of the project,
+     * and combinations not in the axes are ignored.
+     *
+     * The default implementation collects {@link #getCombinations(MatrixProject, MatrixBuild)}.
+     * Override this to compute indices directly.
+     *
+     * @param project the target project.
+     * @param build the target build.
+     *     Latest build for a new build.
+     *     {@code null} if there's no builds.
+     * @return indices of combinations to check.
+     * @since 1.3.4
+     */
+    @Nonnull
+    public BitSet getCombinationIndices(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        AxisList axes = project.getAxes();
+        BitSet indices = new BitSet();
+        for (Combination c : getCombinations(project, build)) {
+            setIndex(indices, axes, c);
+        }
+        return indices;
+    }
+
+    /**
+     * Helper to build indices in {@link #getCombinationIndices(MatrixProject, MatrixBuild)}.
+     *
+     * @param indices indices to update
+     * @param axes axes of the project
+     * @param c combination to add. Ignored if not in the axes.
+     * @since 1.3.4
+     */
+    protected static void setIndex(@Nonnull BitSet indices, @Nonnull AxisList axes, @Nonnull Combination c) {
+        int index = CombinationIndex.indexOf(axes, c);
+        if (index >= 0) {
+            indices.set(index);
+        }
+    }
+
+    /**
+     * Helper to implement {@link #getCombinations(MatrixProject, MatrixBuild)}
+     * with {@link #getCombinationIndices(MatrixProject, MatrixBuild)}.
+     *
+     * @param axes axes of the project
+     * @param indices indices of combinations
+     * @return combinations at the indices
+     * @since 1.3.4
+     */
+    @Nonnull
+    protected static List<Combination> toCombinations(@Nonnull AxisList axes, @Nonnull BitSet indices) {
+        List<Combination> combinations = new ArrayList<>(indices.cardinality());
+        for (int i = indices.nextSetBit(0); i >= 0; i = indices.nextSetBit(i + 1)) {
+            combinations.add(CombinationIndex.combinationAt(axes, i));
+        }
+        return combinations;
+    }
+
+    /**
+     * Helper to implement {@link #getId()} for shortcuts named by users.
+     *
+     * @param prefix prefix for the kind of the shortcut
+     * @param name name of the shortcut
+     * @return id like {@code prefix-name}, where characters other than alphanumerics are replaced with {@code -}.
+     * @since 1.3.4
+     */
+    @Nonnull
+    protected static String toId(@Nonnull String prefix, @Nonnull String name) {
+        return String.format("%s-%s", prefix, name.replaceAll("[^A-Za-z0-9]+", "-"));
+    }
+
+    /**
+     * Whether the result can be reused until the project is saved
+     * or a build of the project completes or is deleted.
+     * Cached results are shared among users.
+     *
+     * @return {@code true} to cache the result with {@link ShortcutCombinationsCache}.
+     * @since 1.3.4
+     */
+    public boolean isCacheable() {
+        return false;
+    }
+
+    /**
+     * Whether the result for the project can be cached now.
+     * Override this for shortcuts depending on states not yet ready,
+     * so that results computed from incomplete states aren't reused.
+     *
+     * @param project the target project.
+     * @return {@code true} to cache the result with {@link ShortcutCombinationsCache}.
+     *     {@link #isCacheable()} by default.
+     * @since 1.3.4
+     */
+    public boolean isCacheable(@Nonnull MatrixProject project) {
+        return isCacheable();
+    }
+
+    /**
+     * {@link #getCombinationIndices(MatrixProject, MatrixBuild)} through {@link ShortcutCombinationsCache}
+     * if {@link #isCacheable(MatrixProject)}.
+     *
+     * @param project the target project.
+     * @param build the target build
+     * @return indices of combinations to check. Must not be modified.
+     */
+    @Nonnull
+    BitSet getCachedCombinationIndices(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        return isCacheable(project)
+                ? ShortcutCombinationsCache.get().getCombinationIndices(this, project, build)
+                : getCombinationIndices(project, build);
+    }
+
     /**
      * Return a value used for javascript.
      *
@@ -68,15 +184,16 @@ public abstract class MatrixCombinationsShortcut extends AbstractDescribableImpl
      * @return comma-separated list of combination indices
      */
     @Nonnull
-    public final String getCombinationsData(@Nonnull final MatrixProject project, @CheckForNull MatrixBuild build) {
-        return StringUtils.join(
-                Collections2.transform(getCombinations(project, build), new Function<Combination, String>() {
-                    @Override
-                    public String apply(Combination c) {
-                        return Integer.toString(c.toIndex(project.getAxes()));
-                    }
-                }),
-                ',');
+    public final String getCombinationsData(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        BitSet indices = getCachedCombinationIndices(project, build);
+        StringBuilder sb = new StringBuilder();
+        for (int i = indices.nextSetBit(0); i >= 0; i = indices.nextSetBit(i + 1)) {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(i);
+        }
+        return sb.toString();
     }
 
     /**
@@ -125,6 +242,28 @@ public abstract class MatrixCombinationsShortcut extends AbstractDescribableImpl
                     });
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Nonnull
+        @Override
+        public BitSet getCombinationIndices(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+            AxisList axes = project.getAxes();
+            BitSet indices = new BitSet();
+            for (MatrixConfiguration c : project.getActiveConfigurations()) {
+                setIndex(indices, axes, c.getCombination());
+            }
+            return indices;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -178,6 +317,15 @@ public abstract class MatrixCombinationsShortcut extends AbstractDescribableImpl
             return Collections.emptyList();
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Nonnull
+        @Override
+        public BitSet getCombinationIndices(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+            return new BitSet();
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -0,0 +1,150 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import hudson.Extension;
+import hudson.Util;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixProject;
+import hudson.model.ParametersDefinitionProperty;
+import hudson.plugins.matrix_configuration_parameter.CombinationPreset;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsParameterDefinition;
+import java.util.BitSet;
+import java.util.Collection;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import org.kohsuke.stapler.DataBoundConstructor;
+
+/**
+ * Shortcut to check combinations of a {@link CombinationPreset} defined in the project.
+ *
+ * Presets are displayed as shortcut links without configuring this.
+ * Configure this to combine presets with other shortcuts in {@link CompositeShortcut}.
+ *
+ * @since 1.3.4
+ */
+public class PresetShortcut extends MatrixCombinationsShortcut {
+    private final String preset;
+
+    /**
+     * ctor
+     *
+     * @param preset name of the preset
+     */
+    @DataBoundConstructor
+    public PresetShortcut(String preset) {
+        this.preset = Util.fixNull(preset).trim();
+    }
+
+    /**
+     * @return name of the preset
+     */
+    @Nonnull
+    public String getPreset() {
+        return preset;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getName() {
+        return getPreset();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getId() {
+        return toId("preset", getPreset());
+    }
+
+    /**
+     * @param project the project
+     * @return the preset defined in a parameter of the project, or {@code null} if not found.
+     */
+    @CheckForNull
+    private CombinationPreset findPreset(@Nonnull MatrixProject project) {
+        ParametersDefinitionProperty pdp = project.getProperty(ParametersDefinitionProperty.class);
+        if (pdp == null) {
+            return null;
+        }
+        for (MatrixCombinationsParameterDefinition def :
+                Util.filter(pdp.getParameterDefinitions(), MatrixCombinationsParameterDefinition.class)) {
+            CombinationPreset found = def.getPreset(getPreset());
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Collection<Combination> getCombinations(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        return toCombinations(project.getAxes(), getCombinationIndices(project, build));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public BitSet getCombinationIndices(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        CombinationPreset found = findPreset(project);
+        return (found != null) ? found.getCombinationIndices(project) : new BitSet();
+    }
+
+    /**
+     * Not cached as the stored result is copied.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCacheable() {
+        return false;
+    }
+
+    /**
+     * Descriptor for {@link PresetShortcut}
+     */
+    @Extension
+    public static class DescriptorImpl extends MatrixCombinationsShortcutDescriptor {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getDisplayName() {
+            return Messages.PresetShortcut_DisplayName();
+        }
+    }
+}
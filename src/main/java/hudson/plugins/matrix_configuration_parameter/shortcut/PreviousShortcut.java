@@ -31,6 +31,7 @@ import hudson.matrix.Combination;
 import hudson.matrix.MatrixBuild;
 import hudson.matrix.MatrixProject;
 import hudson.matrix.MatrixRun;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import javax.annotation.CheckForNull;
@@ -61,6 +62,29 @@ public class PreviousShortcut extends MatrixCombinationsShortcut {
         });
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public BitSet getCombinationIndices(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        if (build == null) {
+            return new BitSet();
+        }
+        return (BitSet) ShortcutCombinationsCache.get()
+                .getRunResults(project, build)
+                .getRunIndices(true)
+                .clone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
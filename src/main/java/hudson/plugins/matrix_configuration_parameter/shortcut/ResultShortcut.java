@@ -37,6 +37,7 @@ import hudson.matrix.MatrixRun;
 import hudson.model.Result;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -54,6 +55,11 @@ public class ResultShortcut extends MatrixCombinationsShortcut {
     private final boolean exact;
     private final List<String> resultsToCheck;
 
+    /**
+     * {@link #resultsToCheck} resolved to {@link Result}s.
+     */
+    private transient List<Result> results;
+
     /**
      * ctor
      *
@@ -67,6 +73,21 @@ public class ResultShortcut extends MatrixCombinationsShortcut {
         this.exact = exact;
         this.resultsToCheck =
                 (resultsToCheck != null) ? new ArrayList<>(resultsToCheck) : Collections.<String>emptyList();
+        this.results = resolveResults(this.resultsToCheck);
+    }
+
+    private Object readResolve() {
+        this.results = resolveResults(resultsToCheck);
+        return this;
+    }
+
+    @Nonnull
+    private static List<Result> resolveResults(@Nonnull List<String> resultsToCheck) {
+        List<Result> results = new ArrayList<>();
+        for (String s : resultsToCheck) {
+            results.add(Result.fromString(s));
+        }
+        return Collections.unmodifiableList(results);
     }
 
     /**
@@ -129,15 +150,7 @@ public class ResultShortcut extends MatrixCombinationsShortcut {
                     @Override
                     public boolean apply(MatrixRun run) {
                         Result result = run.getResult();
-                        if (result == null) {
-                            return false;
-                        }
-                        for (String s : getResultsToCheck()) {
-                            if (result.equals(Result.fromString(s))) {
-                                return true;
-                            }
-                        }
-                        return false;
+                        return result != null && results.contains(result);
                     }
                 }),
                 new Function<MatrixRun, Combination>() {
@@ -148,6 +161,25 @@ public class ResultShortcut extends MatrixCombinationsShortcut {
                 });
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet getCombinationIndices(MatrixProject project, MatrixBuild build) {
+        if (build == null) {
+            return new BitSet();
+        }
+        return ShortcutCombinationsCache.get().getRunResults(project, build).getResultIndices(isExact(), results);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Extension
     public static class DescriptorImpl extends MatrixCombinationsShortcutDescriptor {
         @Override
@@ -0,0 +1,160 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import com.google.common.base.Function;
+import com.google.common.base.Predicate;
+import com.google.common.collect.Collections2;
+import hudson.Extension;
+import hudson.Util;
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixConfiguration;
+import hudson.matrix.MatrixProject;
+import hudson.plugins.matrix_configuration_parameter.CombinationShards;
+import java.util.BitSet;
+import java.util.Collection;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import org.kohsuke.stapler.DataBoundConstructor;
+
+/**
+ * Shortcut to select one of stable shards of active combinations.
+ *
+ * @see CombinationShards
+ * @since 1.3.4
+ */
+public class ShardShortcut extends MatrixCombinationsShortcut {
+    private final String name;
+    private final int shards;
+    private final int shard;
+
+    /**
+     * ctor
+     *
+     * @param name name to display
+     * @param shards number of shards
+     * @param shard the shard to select, from {@code 0} to {@code shards - 1}.
+     */
+    @DataBoundConstructor
+    public ShardShortcut(String name, int shards, int shard) {
+        this.name = Util.fixNull(name);
+        this.shards = Math.max(shards, 1);
+        this.shard = shard;
+    }
+
+    /**
+     * @return number of shards
+     */
+    public int getShards() {
+        return shards;
+    }
+
+    /**
+     * @return the shard to select
+     */
+    public int getShard() {
+        return shard;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public Collection<Combination> getCombinations(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        return Collections2.filter(
+                Collections2.transform(
+                        project.getActiveConfigurations(), new Function<MatrixConfiguration, Combination>() {
+                            @Override
+                            public Combination apply(MatrixConfiguration c) {
+                                return c.getCombination();
+                            }
+                        }),
+                new Predicate<Combination>() {
+                    @Override
+                    public boolean apply(Combination c) {
+                        return CombinationShards.shardOf(c, getShards()) == getShard();
+                    }
+                });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public BitSet getCombinationIndices(@Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+        AxisList axes = project.getAxes();
+        BitSet indices = new BitSet();
+        for (MatrixConfiguration c : project.getActiveConfigurations()) {
+            if (CombinationShards.shardOf(c.getCombination(), getShards()) == getShard()) {
+                setIndex(indices, axes, c.getCombination());
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getId() {
+        return String.format("shard-%d-of-%d", getShard(), getShards());
+    }
+
+    /**
+     * Descriptor for {@link ShardShortcut}
+     */
+    @Extension
+    public static class DescriptorImpl extends MatrixCombinationsShortcutDescriptor {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getDisplayName() {
+            return Messages.ShardShortcut_DisplayName();
+        }
+    }
+}
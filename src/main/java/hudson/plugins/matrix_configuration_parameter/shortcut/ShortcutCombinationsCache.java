@@ -0,0 +1,301 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import hudson.Extension;
+import hudson.XmlFile;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixProject;
+import hudson.matrix.MatrixRun;
+import hudson.model.Item;
+import hudson.model.Run;
+import hudson.model.Saveable;
+import hudson.model.TaskListener;
+import hudson.model.listeners.ItemListener;
+import hudson.model.listeners.RunListener;
+import hudson.model.listeners.SaveableListener;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import jenkins.util.SystemProperties;
+
+/**
+ * Caches {@link MatrixCombinationsShortcut#getCombinationIndices(MatrixProject, MatrixBuild)}
+ * of {@link MatrixCombinationsShortcut#isCacheable() cacheable} shortcuts for each project.
+ *
+ * Results are keyed by the shortcut instance and the target build,
+ * and dropped when the project is saved or a build of the project completes or is deleted.
+ * Concurrent requests for the same result wait for a single computation.
+ *
+ * Also holds {@link BuildRunResults} so that shortcuts testing runs of the same build load them only once.
+ */
+public final class ShortcutCombinationsCache {
+    private static final int DEFAULT_MAX_ENTRIES_PER_PROJECT = 64;
+
+    private static final ShortcutCombinationsCache INSTANCE = new ShortcutCombinationsCache(SystemProperties.getInteger(
+            ShortcutCombinationsCache.class.getName() + ".maxEntriesPerProject", DEFAULT_MAX_ENTRIES_PER_PROJECT));
+
+    private final int maxEntriesPerProject;
+
+    /**
+     * Entries don't refer projects nor builds, so that they are collected with deleted projects.
+     * Guarded by itself.
+     */
+    private final Map<MatrixProject, ProjectEntries> projects = new WeakHashMap<MatrixProject, ProjectEntries>();
+
+    private final AtomicLong computeCount = new AtomicLong();
+
+    ShortcutCombinationsCache(int maxEntriesPerProject) {
+        this.maxEntriesPerProject = maxEntriesPerProject;
+    }
+
+    /**
+     * @return the instance
+     */
+    @Nonnull
+    public static ShortcutCombinationsCache get() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param shortcut the shortcut
+     * @param project the target project
+     * @param build the target build
+     * @return indices of combinations to check. Must not be modified.
+     */
+    @Nonnull
+    BitSet getCombinationIndices(
+            @Nonnull final MatrixCombinationsShortcut shortcut,
+            @Nonnull final MatrixProject project,
+            @CheckForNull final MatrixBuild build) {
+        ConcurrentMap<Key, FutureTask<BitSet>> entries = getEntries(project).shortcuts;
+        Key key = new Key(shortcut, (build != null) ? build.getNumber() : 0);
+        FutureTask<BitSet> task = entries.get(key);
+        if (task == null) {
+            FutureTask<BitSet> newTask = new FutureTask<BitSet>(new Callable<BitSet>() {
+                @Override
+                public BitSet call() throws Exception {
+                    computeCount.incrementAndGet();
+                    return shortcut.getCombinationIndices(project, build);
+                }
+            });
+            if (entries.size() >= maxEntriesPerProject) {
+                // mostly requested for the last build. Just start over.
+                entries.clear();
+            }
+            task = entries.putIfAbsent(key, newTask);
+            if (task == null) {
+                task = newTask;
+                task.run();
+            }
+        }
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return shortcut.getCombinationIndices(project, build);
+        } catch (ExecutionException e) {
+            // don't cache failures
+            entries.remove(key, task);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * @param project the target project
+     * @param build the target build
+     * @return runs of the build shared until they are dropped
+     */
+    @Nonnull
+    BuildRunResults getRunResults(@Nonnull MatrixProject project, @Nonnull MatrixBuild build) {
+        ConcurrentMap<Integer, BuildRunResults> entries = getEntries(project).runResults;
+        BuildRunResults runResults = entries.get(build.getNumber());
+        if (runResults != null && !runResults.isFor(build)) {
+            // the build was reloaded
+            entries.remove(build.getNumber(), runResults);
+            runResults = null;
+        }
+        if (runResults == null) {
+            if (entries.size() >= maxEntriesPerProject) {
+                entries.clear();
+            }
+            // BuildRunResults loads runs lazily, so creating extra ones costs nothing.
+            BuildRunResults newRunResults = new BuildRunResults(project.getAxes(), build);
+            runResults = entries.putIfAbsent(build.getNumber(), newRunResults);
+            if (runResults == null) {
+                runResults = newRunResults;
+            }
+        }
+        return runResults;
+    }
+
+    @Nonnull
+    private ProjectEntries getEntries(@Nonnull MatrixProject project) {
+        synchronized (projects) {
+            ProjectEntries entries = projects.get(project);
+            if (entries == null) {
+                entries = new ProjectEntries();
+                projects.put(project, entries);
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * @param project the project
+     * @return whether anything is cached for the project
+     */
+    boolean isCached(@Nonnull MatrixProject project) {
+        synchronized (projects) {
+            return projects.containsKey(project);
+        }
+    }
+
+    /**
+     * Drops cached results for the project.
+     *
+     * @param project the project
+     */
+    public void invalidate(@Nonnull MatrixProject project) {
+        synchronized (projects) {
+            projects.remove(project);
+        }
+    }
+
+    /**
+     * Drops all cached results.
+     */
+    public void clear() {
+        synchronized (projects) {
+            projects.clear();
+        }
+    }
+
+    /**
+     * @return number of shortcuts computed.
+     */
+    public long getComputeCount() {
+        return computeCount.get();
+    }
+
+    private static class ProjectEntries {
+        final ConcurrentMap<Key, FutureTask<BitSet>> shortcuts = new ConcurrentHashMap<Key, FutureTask<BitSet>>();
+
+        final ConcurrentMap<Integer, BuildRunResults> runResults = new ConcurrentHashMap<Integer, BuildRunResults>();
+    }
+
+    private static class Key {
+        @Nonnull
+        private final MatrixCombinationsShortcut shortcut;
+
+        private final int buildNumber;
+
+        Key(@Nonnull MatrixCombinationsShortcut shortcut, int buildNumber) {
+            this.shortcut = shortcut;
+            this.buildNumber = buildNumber;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(shortcut) * 31 + buildNumber;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            // configured shortcuts are replaced when the project is saved
+            return shortcut == other.shortcut && buildNumber == other.buildNumber;
+        }
+    }
+
+    /**
+     * Drops results when builds complete or are deleted.
+     */
+    @Extension
+    public static class RunListenerImpl extends RunListener<Run<?, ?>> {
+        @Override
+        public void onCompleted(Run<?, ?> r, @Nonnull TaskListener listener) {
+            invalidate(r);
+        }
+
+        @Override
+        public void onDeleted(Run<?, ?> r) {
+            invalidate(r);
+        }
+
+        private static void invalidate(@Nonnull Run<?, ?> r) {
+            if (r instanceof MatrixRun) {
+                get().invalidate(((MatrixRun) r).getParent().getParent());
+            } else if (r instanceof MatrixBuild) {
+                get().invalidate(((MatrixBuild) r).getParent());
+            }
+        }
+    }
+
+    /**
+     * Drops results when projects are deleted.
+     */
+    @Extension
+    public static class ItemListenerImpl extends ItemListener {
+        @Override
+        public void onDeleted(Item item) {
+            if (item instanceof MatrixProject) {
+                get().invalidate((MatrixProject) item);
+            }
+        }
+    }
+
+    /**
+     * Drops results when projects are saved.
+     */
+    @Extension
+    public static class SaveableListenerImpl extends SaveableListener {
+        @Override
+        public void onChange(Saveable o, XmlFile file) {
+            if (o instanceof MatrixProject) {
+                get().invalidate((MatrixProject) o);
+            }
+        }
+    }
+}
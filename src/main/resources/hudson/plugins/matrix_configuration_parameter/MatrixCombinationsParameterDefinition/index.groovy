@@ -7,7 +7,9 @@ import hudson.matrix.MatrixProject
 import hudson.matrix.MatrixBuild
 import hudson.matrix.MatrixRun
 import hudson.model.Result
+import hudson.plugins.matrix_configuration_parameter.CombinationFilterCache
 import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsParameterDefinition
+import hudson.plugins.matrix_configuration_parameter.MatrixGridModel
 import lib.LayoutTagLib
 import org.kohsuke.stapler.jelly.groovy.Namespace
 
@@ -51,8 +53,12 @@ private void drawMainBody(MatrixCombinationsParameterDefinition paramDef, Namesp
     f.entry(title: h.escape(nameIt), description: it.formattedDescription) {
         div(name: "parameter", class: "matrix-combinations-parameter") {
             input(type: "hidden", name: "name", value: nameIt)
-            nsProject.matrix(it: project, layouter: layouter) {
-              drawMainBall(paramDef, p, project.axes, nameIt, project, layouter);
+            if (MatrixGridModel.isClientRendered(axes)) {
+              nsProject.grid(model: MatrixGridModel.forDefinition(paramDef, project, build))
+            } else {
+              nsProject.matrix(it: project, layouter: layouter) {
+                drawMainBall(paramDef, p, project.axes, nameIt, project, layouter);
+              }
             }
             nsProject.shortcut(parameter: paramDef, project: project, build: build);
         }//div
@@ -71,7 +77,7 @@ private void drawMainBall(MatrixCombinationsParameterDefinition paramDef, Combin
               text(combination.toString(layouter.z))
             }
             }
-            checked = combination.evalGroovyExpression(axes, paramDef.defaultCombinationFilter?:project.combinationFilter)
+            checked = CombinationFilterCache.evaluate(axes, combination, paramDef.defaultCombinationFilter?:project.combinationFilter)
             span(class: "combination", "data-combination": combination.toIndex(axes)) {
                 f.checkbox(checked: checked, name: "combinations", json: combination.toString())
             }
@@ -83,7 +89,7 @@ private void drawMainBall(MatrixCombinationsParameterDefinition paramDef, Combin
           text(combination.toString(layouter.z))
         }
         
-        checked = combination.evalGroovyExpression(axes, paramDef.defaultCombinationFilter?:project.combinationFilter)
+        checked = CombinationFilterCache.evaluate(axes, combination, paramDef.defaultCombinationFilter?:project.combinationFilter)
         span(class: "combination", "data-combination": combination.toIndex(axes)) {
             f.checkbox(checked: checked, name: "combinations", json: combination.toString())
         }
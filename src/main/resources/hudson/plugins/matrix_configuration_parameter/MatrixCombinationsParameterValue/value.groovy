@@ -5,7 +5,10 @@ import hudson.matrix.Combination
 import hudson.matrix.Layouter
 import hudson.matrix.MatrixBuild
 import hudson.matrix.MatrixProject
+import hudson.model.BallColor
+import hudson.plugins.matrix_configuration_parameter.CombinationResultsAction
 import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsParameterValue
+import hudson.plugins.matrix_configuration_parameter.MatrixGridModel
 import lib.LayoutTagLib
 import org.kohsuke.stapler.jelly.groovy.Namespace
 
@@ -45,20 +48,37 @@ private void drawParameterBody(Namespace f,MatrixCombinationsParameterValue valu
     f.entry(title: h.escape(valueIt.name), description: it.formattedDescription) {
         div(name: "parameter", class: "matrix-combinations-parameter") {
             input(type: "hidden", name: "name", value: valueIt.getName())
-            nsProject.matrix(it: build, layouter: layouter) {
-              drawTableBall(p, project.axes, valueIt, project, build, layouter);
+            if (MatrixGridModel.isClientRendered(axes)) {
+              nsProject.grid(model: MatrixGridModel.forValue(valueIt, project, build, true))
+            } else {
+              CombinationResultsAction summary = CombinationResultsAction.of(build);
+              nsProject.matrix(it: build, layouter: layouter) {
+                drawTableBall(p, project.axes, valueIt, project, build, summary, layouter);
+              }
             }
         }//div
     }
 }
 
-private void drawTableBall(Combination combination,AxisList axes,MatrixCombinationsParameterValue matrixValue,MatrixProject project,MatrixBuild build,Layouter layouter) {
+private void drawTableBall(Combination combination,AxisList axes,MatrixCombinationsParameterValue matrixValue,MatrixProject project,MatrixBuild build,CombinationResultsAction summary,Layouter layouter) {
 
-    run = build.getRun(combination);
+    String runUrl = null;
+    BallColor iconColor = null;
+    if (summary != null) {
+        // avoid loading runs of the build
+        runUrl = summary.getRunUrl(combination);
+        iconColor = summary.getIconColor(combination);
+    }
+    if (runUrl == null && (summary == null || summary.getRunIndices(false).get(combination.toIndex(axes)))) {
+        // the nearest run of earlier builds, loaded only for combinations not run in the build
+        run = build.getRun(combination);
+        runUrl = run?.getUrl();
+        iconColor = run?.getIconColor();
+    }
     result = matrixValue.combinationExists(axes, combination);
-    if (run != null && result){
-        a(href:rootURL+"/"+run.getUrl()){
-            l.icon(class:"icon-md "+run.getIconColor().getIconClassName())
+    if (runUrl != null && result){
+        a(href:rootURL+"/"+runUrl){
+            l.icon(class:"icon-md "+iconColor.getIconClassName())
             if (!layouter.x || !layouter.y) {
                 text(combination.toString(layouter.z))
               }
@@ -0,0 +1,257 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+/**
+ * Decodes axes formatted with EncodedCombinations#formatAxes.
+ */
+function matrixCombinationsParseAxes(axes) {
+  if (!axes) {
+    return [];
+  }
+  return axes.split(";").map(function(axis) {
+    var eq = axis.indexOf("=");
+    return {
+      name: decodeURIComponent(axis.substring(0, eq)),
+      values: axis.substring(eq + 1).split(",").map(decodeURIComponent)
+    };
+  });
+}
+
+/**
+ * Decodes runs of unselected and selected indices like "0,3,1,2".
+ */
+function matrixCombinationsParseRuns(runs, size) {
+  var bits = [];
+  var index = 0;
+  if (runs) {
+    runs.split(",").forEach(function(run, i) {
+      var length = parseInt(run, 10);
+      for (var j = 0; j < length; ++j) {
+        bits[index++] = (i % 2 == 1);
+      }
+    });
+  }
+  for (; index < size; ++index) {
+    bits[index] = false;
+  }
+  return bits;
+}
+
+/**
+ * Decodes run-length encoded codes of results like "S3-2F1s1".
+ */
+function matrixCombinationsParseResults(results, size) {
+  var codes = [];
+  var pattern = /([A-Za-z-])(\d+)/g;
+  var match;
+  while ((match = pattern.exec(results || "")) !== null) {
+    for (var length = parseInt(match[2], 10); length > 0; --length) {
+      codes.push(match[1]);
+    }
+  }
+  while (codes.length < size) {
+    codes.push("-");
+  }
+  return codes;
+}
+
+/**
+ * Decodes run-length encoded numbers of builds like "12:3,10:1"
+ * to numbers for indices with lower cased codes, that is runs of earlier builds.
+ */
+function matrixCombinationsParseEarlier(earlier, codes) {
+  var numbers = [];
+  (earlier ? earlier.split(",") : []).forEach(function(run) {
+    var colon = run.indexOf(":");
+    var number = parseInt(run.substring(0, colon), 10);
+    for (var length = parseInt(run.substring(colon + 1), 10); length > 0; --length) {
+      numbers.push(number);
+    }
+  });
+  var earlierBuilds = [];
+  codes.forEach(function(code, index) {
+    if (code != "-" && code != code.toUpperCase()) {
+      earlierBuilds[index] = numbers.shift() || 0;
+    }
+  });
+  return earlierBuilds;
+}
+
+/**
+ * Draws the matrix from the model in the same layout as matrix.jelly.
+ */
+function matrixCombinationsDrawGrid(grid) {
+  var model = JSON.parse(grid.getAttribute("data-model"));
+  var rootUrl = grid.getAttribute("data-root-url");
+  var axes = matrixCombinationsParseAxes(model.axes);
+  var size = axes.reduce(function(s, axis) { return s * axis.values.length; }, 1);
+  var active = matrixCombinationsParseRuns(model.active, size);
+  var checked = matrixCombinationsParseRuns(model.checked, size);
+  var codes = matrixCombinationsParseResults(model.results, size);
+  var earlierBuilds = matrixCombinationsParseEarlier(model.earlier, codes);
+  // Combination#toString() sorts axes by names
+  var sortedAxes = axes.map(function(axis, i) { return i; }).sort(function(a, b) {
+    return (axes[a].name < axes[b].name) ? -1 : (axes[a].name > axes[b].name) ? 1 : 0;
+  });
+
+  var icons = {};
+  grid.querySelectorAll(".matrix-combinations-grid-icons [data-code]").forEach(function(e) {
+    icons[e.getAttribute("data-code")] = e;
+  });
+
+  // product of sizes of axes from..to-1 in the list of positions
+  function product(positions, from, to) {
+    var p = 1;
+    for (var i = from; i < to; ++i) {
+      p *= axes[positions[i]].values.length;
+    }
+    return p;
+  }
+
+  function drawCell(parent, assigned) {
+    var index = 0;
+    axes.forEach(function(axis, i) {
+      index = index * axis.values.length + assigned[i];
+    });
+    var combination = sortedAxes.map(function(i) {
+      return axes[i].name + "=" + axes[i].values[assigned[i]];
+    }).join(",") || "default";
+
+    var code = codes[index];
+    // lower cases are for runs of earlier builds
+    var number = (code == code.toUpperCase()) ? model.build : earlierBuilds[index];
+    var target = parent;
+    if (code != "-" && number) {
+      var link = document.createElement("a");
+      link.href = rootUrl + "/" + model.url + encodeURIComponent(combination) + "/" + number + "/";
+      parent.appendChild(link);
+      target = link;
+    }
+    var icon = icons[code.toUpperCase()] || icons["-"];
+    icon.childNodes.forEach(function(node) {
+      target.appendChild(node.cloneNode(true));
+    });
+    if (model.x.length == 0 || model.y.length == 0) {
+      var label = (axes.length == 1 && model.z.length == 1)
+        ? axes[0].values[assigned[0]]
+        : model.z.map(function(i) { return axes[i].name + "=" + axes[i].values[assigned[i]]; }).join(",");
+      target.appendChild(document.createTextNode(label || "default"));
+    }
+    if (!active[index]) {
+      return;
+    }
+    var span = document.createElement("span");
+    span.className = "combination";
+    span.setAttribute("data-combination", index);
+    var checkbox = document.createElement("input");
+    checkbox.type = "checkbox";
+    checkbox.name = "combinations";
+    checkbox.setAttribute("json", combination);
+    checkbox.checked = checked[index];
+    checkbox.disabled = model.readonly;
+    span.appendChild(checkbox);
+    parent.appendChild(span);
+  }
+
+  function drawCombinations(parent, assigned, wrap) {
+    var count = product(model.z, 0, model.z.length);
+    for (var n = 0; n < count; ++n) {
+      model.z.forEach(function(position, k) {
+        assigned[position] = Math.floor(n / product(model.z, k + 1, model.z.length)) % axes[position].values.length;
+      });
+      if (wrap) {
+        var div = document.createElement("div");
+        parent.appendChild(div);
+        drawCell(div, assigned);
+      } else {
+        drawCell(parent, assigned);
+        parent.appendChild(document.createTextNode("\u00a0"));
+      }
+    }
+  }
+
+  var matrix = document.createElement("div");
+  matrix.className = "matrix";
+  var assigned = axes.map(function() { return 0; });
+  if (model.x.length == 0 && model.y.length == 0) {
+    drawCombinations(matrix, assigned, false);
+  } else {
+    var table = document.createElement("table");
+    table.className = "configuration-matrix";
+    // X-axis
+    model.x.forEach(function(position, d) {
+      var tr = table.insertRow();
+      tr.className = "matrix-row";
+      if (model.y.length > 0) {
+        var title = tr.insertCell();
+        title.className = "matrix-title";
+        title.colSpan = model.y.length;
+        title.textContent = "\u00a0";
+      }
+      var repeat = product(model.x, 0, d);
+      var width = product(model.x, d + 1, model.x.length);
+      for (var r = 0; r < repeat; ++r) {
+        axes[position].values.forEach(function(value) {
+          var header = tr.insertCell();
+          header.className = "matrix-header";
+          header.colSpan = width;
+          header.textContent = value;
+        });
+      }
+    });
+    // Y-axis
+    var rows = product(model.y, 0, model.y.length);
+    var columns = product(model.x, 0, model.x.length);
+    for (var row = 0; row < rows; ++row) {
+      var tr = table.insertRow();
+      model.y.forEach(function(position, d) {
+        var height = product(model.y, d + 1, model.y.length);
+        assigned[position] = Math.floor(row / height) % axes[position].values.length;
+        if (row % height == 0) {
+          var header = tr.insertCell();
+          header.className = "matrix-leftcolumn";
+          header.rowSpan = height;
+          header.textContent = axes[position].values[assigned[position]];
+        }
+      });
+      for (var column = 0; column < columns; ++column) {
+        model.x.forEach(function(position, d) {
+          var width = product(model.x, d + 1, model.x.length);
+          assigned[position] = Math.floor(column / width) % axes[position].values.length;
+        });
+        var cell = tr.insertCell();
+        cell.className = "matrix-cell";
+        drawCombinations(cell, assigned, true);
+      }
+    }
+    matrix.appendChild(table);
+  }
+  grid.appendChild(matrix);
+}
+
+Behaviour.specify(".matrix-combinations-grid", "matrix-combinations-grid", 0, function(grid) {
+  if (!grid.querySelector(".matrix")) {
+    matrixCombinationsDrawGrid(grid);
+  }
+});
@@ -22,19 +22,50 @@
  * THE SOFTWARE.
  */
 
+/**
+ * Fetches combinations of the shortcut link at the first click,
+ * and reuses them for later clicks.
+ */
+function matrixCombinationsGetShortcutCombinations(link) {
+  if (link.hasAttribute("data-combinations")) {
+    return Promise.resolve(link.getAttribute("data-combinations"));
+  }
+  if (!link.matrixCombinationsRequest) {
+    var shortcuts = link.closest(".shortcuts");
+    var params = new URLSearchParams();
+    params.append("parameter", shortcuts.getAttribute("data-parameter"));
+    params.append("shortcut", link.getAttribute("data-shortcut-index"));
+    params.append("build", shortcuts.getAttribute("data-build") || "");
+    link.matrixCombinationsRequest = fetch(shortcuts.getAttribute("data-url") + "?" + params.toString())
+      .then(function(rsp) {
+        if (!rsp.ok) {
+          throw new Error("Failed to fetch combinations: " + rsp.status);
+        }
+        return rsp.text();
+      })
+      .then(function(combinations) {
+        link.setAttribute("data-combinations", combinations);
+        return combinations;
+      }, function(error) {
+        // retry at the next click
+        delete link.matrixCombinationsRequest;
+        throw error;
+      });
+  }
+  return link.matrixCombinationsRequest;
+}
+
 Behaviour.specify(".matrix-combinations-parameter .shortcut", "matrix-combinations-parameter-shortcut", 0, function (e) {
   e.addEventListener("click", function(e) {
-    var combinations = this.getAttribute("data-combinations");
-    if (!combinations) {
-        combinations = "";
-    }
-    var indexToCheck = combinations.split(",");
     var block = this.closest(".matrix-combinations-parameter");
-    block.querySelectorAll(".combination").forEach(function(c) {
-      var combination = c.getAttribute("data-combination");
-      var toCheck = combination && (indexToCheck.indexOf(combination) >= 0);
-      c.querySelectorAll("input[type='checkbox']").forEach(function(checkbox) {
-        checkbox.checked = toCheck;
+    matrixCombinationsGetShortcutCombinations(this).then(function(combinations) {
+      var indexToCheck = combinations.split(",");
+      block.querySelectorAll(".combination").forEach(function(c) {
+        var combination = c.getAttribute("data-combination");
+        var toCheck = combination && (indexToCheck.indexOf(combination) >= 0);
+        c.querySelectorAll("input[type='checkbox']").forEach(function(checkbox) {
+          checkbox.checked = toCheck;
+        });
       });
     });
     e.preventDefault();
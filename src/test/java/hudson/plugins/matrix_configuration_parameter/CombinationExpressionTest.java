@@ -0,0 +1,97 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import static org.junit.Assert.assertEquals;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.TextAxis;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+
+/**
+ * Tests for {@link CombinationExpression}
+ */
+public class CombinationExpressionTest {
+    @ClassRule
+    public static JenkinsRule j = new JenkinsRule();
+
+    @Test
+    public void testOf() throws Exception {
+        assertEquals(
+                "(axis1 == 'value1' && axis2 == 'value2') || (axis1 == 'value3' && axis2 == 'value4')",
+                CombinationExpression.of(Arrays.asList("axis1=value1,axis2=value2", "axis1=value3,axis2=value4")));
+        assertEquals("", CombinationExpression.of(new ArrayList<String>()));
+    }
+
+    @Test
+    public void testMinimize() throws Exception {
+        assertEquals(
+                "axis1 in ['value1-1', 'value1-2'] && axis2 == 'value2-1'",
+                CombinationExpression.minimize(
+                        Arrays.asList("axis1=value1-1,axis2=value2-1", "axis1=value1-2,axis2=value2-1")));
+        assertEquals("axis1 == 'it\\'s'", CombinationExpression.minimize(Arrays.asList("axis1=it's")));
+        assertEquals("", CombinationExpression.minimize(new ArrayList<String>()));
+        // not in the same axes
+        assertEquals(
+                CombinationExpression.of(Arrays.asList("axis1=value1", "axis2=value2")),
+                CombinationExpression.minimize(Arrays.asList("axis1=value1", "axis2=value2")));
+    }
+
+    /**
+     * Compares results of both forms for random selections.
+     */
+    @Test
+    public void testSameResults() throws Exception {
+        AxisList axes = new AxisList(
+                new TextAxis("axis1", "value1-1", "value1-2", "value1-3"),
+                new TextAxis("axis2", "value2-1", "value2-2"),
+                new TextAxis("axis3", "value3-1", "value3-2", "value3-3"));
+        Random random = new Random(0x6d617472L);
+        for (int i = 0; i < 10; ++i) {
+            List<String> combinations = new ArrayList<>();
+            for (Combination c : axes.list()) {
+                if (random.nextInt(4) > 0) {
+                    combinations.add(c.toString());
+                }
+            }
+            String expression = CombinationExpression.of(combinations);
+            String minimized = CombinationExpression.minimize(combinations);
+            for (Combination c : axes.list()) {
+                assertEquals(
+                        String.format("%s for %s", minimized, c),
+                        c.evalGroovyExpression(axes, expression),
+                        c.evalGroovyExpression(axes, minimized));
+            }
+        }
+    }
+}
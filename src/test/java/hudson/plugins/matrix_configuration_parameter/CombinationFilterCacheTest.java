@@ -0,0 +1,100 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import static org.junit.Assert.assertEquals;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.TextAxis;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+
+/**
+ * Tests for {@link CombinationFilterCache}
+ */
+public class CombinationFilterCacheTest {
+    @ClassRule
+    public static JenkinsRule j = new JenkinsRule();
+
+    private static final AxisList AXES = new AxisList(
+            new TextAxis("axis1", "value1-1", "value1-2", "value1-3"), new TextAxis("axis2", "value2-1", "value2-2"));
+
+    private static final List<String> EXPRESSIONS = Arrays.asList(
+            "",
+            "axis1 == 'value1-1'",
+            "!(axis1 == 'value1-2' && axis2 == 'value2-2')",
+            "axis1 in ['value1-1', 'value1-3']",
+            "(axis1 == 'value1-1').implies(axis2 == 'value2-1')",
+            "index % 2 == 0",
+            "uniqueId > 2");
+
+    @Test
+    public void testSameResultsAsGroovy() throws Exception {
+        CombinationFilterCache cache = new CombinationFilterCache(10);
+        for (String expression : EXPRESSIONS) {
+            for (Combination c : AXES.list()) {
+                assertEquals(
+                        String.format("%s for %s", expression, c),
+                        c.evalGroovyExpression(AXES, expression),
+                        cache.eval(AXES, c, expression));
+            }
+        }
+    }
+
+    @Test
+    public void testHitAndMiss() throws Exception {
+        CombinationFilterCache cache = new CombinationFilterCache(10);
+        int count = 0;
+        for (Combination c : AXES.list()) {
+            cache.eval(AXES, c, "axis1 == 'value1-1'");
+            ++count;
+        }
+        assertEquals(1, cache.getMissCount());
+        assertEquals(count - 1, cache.getHitCount());
+        assertEquals(1, cache.getSize());
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        CombinationFilterCache cache = new CombinationFilterCache(2);
+        Combination c = new Combination(AXES, "value1-1", "value2-1");
+        cache.eval(AXES, c, "axis1 == 'value1-1'");
+        cache.eval(AXES, c, "axis1 == 'value1-2'");
+        // touch the first one so that the second one is the least recently used.
+        cache.eval(AXES, c, "axis1 == 'value1-1'");
+        cache.eval(AXES, c, "axis1 == 'value1-3'");
+        assertEquals(2, cache.getSize());
+        assertEquals(3, cache.getMissCount());
+
+        cache.eval(AXES, c, "axis1 == 'value1-1'");
+        assertEquals(3, cache.getMissCount());
+        cache.eval(AXES, c, "axis1 == 'value1-2'");
+        assertEquals(4, cache.getMissCount());
+    }
+}
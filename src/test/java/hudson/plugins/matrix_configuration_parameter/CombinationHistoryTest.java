@@ -0,0 +1,188 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import static hudson.plugins.matrix_configuration_parameter.MatrixCombinationsJenkinsRule.bits;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixProject;
+import hudson.matrix.TextAxis;
+import hudson.model.Cause;
+import hudson.model.ParametersAction;
+import hudson.model.ParametersDefinitionProperty;
+import hudson.model.Result;
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Tests for {@link CombinationHistory}
+ */
+public class CombinationHistoryTest {
+    @ClassRule
+    public static MatrixCombinationsJenkinsRule j = new MatrixCombinationsJenkinsRule();
+
+    private void assertHistory(AxisList axes, CombinationHistory history) throws Exception {
+        assertTrue(history.waitForLoaded(10, TimeUnit.SECONDS));
+
+        List<CombinationHistory.Entry> entries = history.getEntries(new Combination(axes, "value1"));
+        assertEquals(2, entries.size());
+        assertEquals(2, entries.get(0).getBuildNumber());
+        assertEquals(Result.SUCCESS, entries.get(0).getResult());
+        assertEquals(1, entries.get(1).getBuildNumber());
+
+        CombinationHistory.Entry latest = history.getLatest(new Combination(axes, "value2"));
+        assertEquals(1, latest.getBuildNumber());
+        assertEquals(Result.FAILURE, latest.getResult());
+        assertNull(history.getLatest(new Combination(axes, "value4")));
+
+        assertEquals(2, history.getBuildNumberSince(1));
+        assertEquals(1, history.getBuildNumberSince(2));
+        assertEquals(0, history.getBuildNumberSince(3));
+        assertEquals(bits(), history.getIndices(axes, 1, Collections.singleton(Result.FAILURE)));
+        assertEquals(bits(1), history.getIndices(axes, 2, Collections.singleton(Result.FAILURE)));
+        assertEquals(bits(0, 2), history.getIndices(axes, 2, Collections.singleton(Result.SUCCESS)));
+    }
+
+    @Test
+    public void testHistory() throws Exception {
+        AxisList axes = new AxisList(new TextAxis("axis1", "value1", "value2", "value3", "value4"));
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(axes);
+        p.setCombinationFilter("axis1 != 'value4'");
+        p.addProperty(
+                new ParametersDefinitionProperty(new MatrixCombinationsParameterDefinition("combinations", "")));
+        p.getBuildersList().add(new ConditionalFailBuilder("${axis1}", "value2"));
+
+        j.assertBuildStatus(Result.FAILURE, p.scheduleBuild2(0).get());
+        @SuppressWarnings("deprecation")
+        Cause cause = new Cause.UserCause();
+        MatrixBuild b = p.scheduleBuild2(
+                        0,
+                        cause,
+                        Arrays.asList(new ParametersAction(new MatrixCombinationsParameterValue(
+                                "combinations", new Boolean[] {true}, new String[] {"axis1=value1"}))))
+                .get();
+        j.assertBuildStatusSuccess(b);
+
+        assertHistory(axes, CombinationHistory.of(p));
+
+        // read from the file
+        CombinationHistory.clear();
+        assertHistory(axes, CombinationHistory.of(p));
+
+        // rebuilt from builds
+        File file = new File(p.getRootDir(), CombinationHistory.FILENAME);
+        assertTrue(file.delete());
+        CombinationHistory.clear();
+        assertHistory(axes, CombinationHistory.of(p));
+        assertTrue(file.exists());
+
+        // already recorded
+        CombinationHistory.of(p).record(b);
+        assertEquals(2, CombinationHistory.of(p).getEntries(new Combination(axes, "value1")).size());
+    }
+
+    @Test
+    public void testRecordedWhileLoading() throws Exception {
+        AxisList axes = new AxisList(new TextAxis("axis1", "value1", "value2", "value3", "value4"));
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(axes);
+        p.setCombinationFilter("axis1 != 'value4'");
+        p.addProperty(
+                new ParametersDefinitionProperty(new MatrixCombinationsParameterDefinition("combinations", "")));
+        p.getBuildersList().add(new ConditionalFailBuilder("${axis1}", "value2"));
+
+        j.assertBuildStatus(Result.FAILURE, p.scheduleBuild2(0).get());
+        @SuppressWarnings("deprecation")
+        Cause cause = new Cause.UserCause();
+        MatrixBuild b = p.scheduleBuild2(
+                        0,
+                        cause,
+                        Arrays.asList(new ParametersAction(new MatrixCombinationsParameterValue(
+                                "combinations", new Boolean[] {true}, new String[] {"axis1=value1"}))))
+                .get();
+        j.assertBuildStatusSuccess(b);
+
+        // the build completes while rebuilding
+        File file = new File(p.getRootDir(), CombinationHistory.FILENAME);
+        assertTrue(file.delete());
+        CombinationHistory.clear();
+        CombinationHistory.of(p).record(b);
+        assertHistory(axes, CombinationHistory.of(p));
+
+        // and is written to the file
+        CombinationHistory.clear();
+        assertHistory(axes, CombinationHistory.of(p));
+    }
+
+    @Test
+    public void testRebuildDepth() throws Exception {
+        AxisList axes = new AxisList(new TextAxis("axis1", "value1", "value2"));
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(axes);
+        p.addProperty(
+                new ParametersDefinitionProperty(new MatrixCombinationsParameterDefinition("combinations", "")));
+        j.assertBuildStatusSuccess(p.scheduleBuild2(0));
+        j.assertBuildStatusSuccess(p.scheduleBuild2(0));
+        j.assertBuildStatusSuccess(p.scheduleBuild2(0));
+
+        File file = new File(p.getRootDir(), CombinationHistory.FILENAME);
+        assertTrue(file.delete());
+        CombinationHistory.clear();
+        int depth = CombinationHistory.REBUILD_DEPTH;
+        CombinationHistory.REBUILD_DEPTH = 2;
+        try {
+            CombinationHistory history = CombinationHistory.of(p);
+            assertTrue(history.waitForLoaded(10, TimeUnit.SECONDS));
+            // the first build is not read
+            List<CombinationHistory.Entry> entries = history.getEntries(new Combination(axes, "value1"));
+            assertEquals(2, entries.size());
+            assertEquals(3, entries.get(0).getBuildNumber());
+            assertEquals(2, entries.get(1).getBuildNumber());
+        } finally {
+            CombinationHistory.REBUILD_DEPTH = depth;
+        }
+    }
+
+    @Test
+    public void testNotRecordedWithoutParameter() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2")));
+
+        j.assertBuildStatusSuccess(p.scheduleBuild2(0));
+        assertFalse(new File(p.getRootDir(), CombinationHistory.FILENAME).exists());
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import static hudson.plugins.matrix_configuration_parameter.MatrixCombinationsJenkinsRule.bits;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixProject;
+import hudson.matrix.TextAxis;
+import hudson.model.Item;
+import hudson.model.ParametersDefinitionProperty;
+import hudson.plugins.matrix_configuration_parameter.shortcut.MatrixCombinationsShortcut;
+import hudson.plugins.matrix_configuration_parameter.shortcut.PresetShortcut;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import org.htmlunit.HttpMethod;
+import org.htmlunit.WebRequest;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule.WebClient;
+
+/**
+ * Tests for {@link CombinationPreset}
+ */
+public class CombinationPresetTest {
+    @Rule
+    public MatrixCombinationsJenkinsRule j = new MatrixCombinationsJenkinsRule();
+
+    private MatrixCombinationsParameterDefinition createDefinition() {
+        MatrixCombinationsParameterDefinition def = new MatrixCombinationsParameterDefinition(
+                "combinations",
+                "",
+                "",
+                Arrays.<MatrixCombinationsShortcut>asList(new MatrixCombinationsShortcut.All()));
+        def.setPresets(Arrays.asList(
+                new CombinationPreset("smoke", "axis1 == 'value1'"),
+                new CombinationPreset("release gate", "axis1 != 'value2'")));
+        return def;
+    }
+
+    private MatrixCombinationsParameterDefinition getDefinition(MatrixProject p) {
+        return (MatrixCombinationsParameterDefinition)
+                p.getProperty(ParametersDefinitionProperty.class).getParameterDefinition("combinations");
+    }
+
+    @Test
+    public void testConfiguration() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2", "value3")));
+        MatrixCombinationsParameterDefinition def = createDefinition();
+        p.addProperty(new ParametersDefinitionProperty(def));
+
+        j.configRoundtrip((Item) p);
+
+        j.assertEqualDataBoundBeans(def, getDefinition(p));
+        // evaluated and stored when saved
+        for (CombinationPreset preset : getDefinition(p).getPresets()) {
+            assertNotNull(preset.getSelection());
+        }
+        String xml = p.getConfigFile().asString();
+        assertTrue(xml, xml.contains("<projectAxes>"));
+        assertTrue(xml, xml.contains("<combinationRuns>"));
+    }
+
+    @Test
+    public void testNoPresets() throws Exception {
+        MatrixCombinationsParameterDefinition def = new MatrixCombinationsParameterDefinition("combinations", "");
+        assertEquals(Collections.<CombinationPreset>emptyList(), def.getPresets());
+        assertEquals(def.getShortcutList(), def.getShortcutLinks());
+        assertNull(def.getPreset("smoke"));
+    }
+
+    @Test
+    public void testUpdate() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2", "value3")));
+        CombinationPreset preset = new CombinationPreset("release gate", "axis1 != 'value2'");
+
+        assertNull(preset.getSelection());
+        assertTrue(preset.update(p));
+        assertEquals(Arrays.asList("axis1=value1", "axis1=value3"), preset.getSelection().getCombinations());
+        // not evaluated again for the same axes
+        assertEquals(false, preset.update(p));
+        assertEquals(bits(0, 2), preset.getCombinationIndices(p));
+
+        // evaluated again when axes change
+        p.setAxes(new AxisList(new TextAxis("axis1", "value2", "value3", "value4")));
+        assertEquals(bits(1, 2), preset.getCombinationIndices(p));
+
+        // and when active combinations change
+        p.setCombinationFilter("axis1 != 'value3'");
+        assertEquals(bits(2), preset.getCombinationIndices(p));
+
+        // but not stored until the project is saved
+        assertEquals(Arrays.asList("axis1=value1", "axis1=value3"), preset.getSelection().getCombinations());
+        assertTrue(preset.update(p));
+        assertEquals(Arrays.asList("axis1=value4"), preset.getSelection().getCombinations());
+        assertEquals(bits(2), preset.getCombinationIndices(p));
+        assertEquals(false, preset.update(p));
+    }
+
+    @Test
+    public void testShortcutLinks() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2", "value3")));
+        p.addProperty(new ParametersDefinitionProperty(createDefinition()));
+
+        MatrixCombinationsParameterDefinition def = getDefinition(p);
+        assertEquals(3, def.getShortcutLinks().size());
+        assertEquals("preset-release-gate", def.getShortcutLinks().get(2).getId());
+        assertEquals(bits(0, 2), new PresetShortcut("release gate").getCombinationIndices(p, null));
+        assertEquals(bits(), new PresetShortcut("unknown").getCombinationIndices(p, null));
+
+        String url = String.format(
+                "%sdescriptorByName/%s/shortcutCombinations?parameter=combinations",
+                p.getUrl(), MatrixCombinationsParameterDefinition.class.getName());
+        WebClient wc = j.createWebClient();
+        assertEquals("0", wc.goTo(url + "&shortcut=1", "text/plain").getWebResponse().getContentAsString());
+        assertEquals("0,2", wc.goTo(url + "&shortcut=2", "text/plain").getWebResponse().getContentAsString());
+    }
+
+    @Test
+    public void testCreateValue() throws Exception {
+        AxisList axes = new AxisList(new TextAxis("axis1", "value1", "value2", "value3"));
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(axes);
+        p.addProperty(new ParametersDefinitionProperty(createDefinition()));
+        MatrixCombinationsParameterDefinition def = getDefinition(p);
+
+        // not evaluated yet
+        assertEquals(
+                new DefaultMatrixCombinationsParameterValue("combinations", "", "axis1 == 'value1'"),
+                def.createValue("smoke"));
+
+        for (CombinationPreset preset : def.getPresets()) {
+            preset.update(p);
+        }
+        MatrixCombinationsParameterValue value = def.createValue("release gate");
+        assertEquals(MatrixCombinationsParameterValue.class, value.getClass());
+        assertEquals(Arrays.asList("axis1=value1", "axis1=value3"), value.getCombinations());
+        // filters are still accepted
+        assertEquals(
+                new DefaultMatrixCombinationsParameterValue("combinations", "", "axis1 == 'value2'"),
+                def.createValue("axis1 == 'value2'"));
+
+        WebClient wc = j.createWebClient();
+        URL url = new URL(wc.createCrumbedUrl(p.getUrl() + "buildWithParameters").toString() + "&combinations=smoke");
+        wc.getPage(new WebRequest(url, HttpMethod.POST));
+        j.waitUntilNoActivity();
+
+        MatrixBuild b = p.getLastBuild();
+        j.assertBuildStatusSuccess(b);
+        assertNotNull(b.getExactRun(new Combination(axes, "value1")));
+        assertNull(b.getExactRun(new Combination(axes, "value2")));
+        assertNull(b.getExactRun(new Combination(axes, "value3")));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import static hudson.plugins.matrix_configuration_parameter.MatrixCombinationsJenkinsRule.bits;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixProject;
+import hudson.matrix.TextAxis;
+import hudson.model.BallColor;
+import hudson.model.Cause;
+import hudson.model.ParametersAction;
+import hudson.model.ParametersDefinitionProperty;
+import hudson.model.Result;
+import java.util.Arrays;
+import java.util.Collections;
+import jenkins.model.Jenkins;
+import org.htmlunit.html.HtmlPage;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule.WebClient;
+
+/**
+ * Tests for {@link CombinationResultsAction}
+ */
+public class CombinationResultsActionTest {
+    @ClassRule
+    public static MatrixCombinationsJenkinsRule j = new MatrixCombinationsJenkinsRule();
+
+    @Test
+    public void testRecorded() throws Exception {
+        AxisList axes = new AxisList(new TextAxis("axis1", "value1", "value2", "value3"));
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(axes);
+        p.addProperty(
+                new ParametersDefinitionProperty(new MatrixCombinationsParameterDefinition("combinations", "")));
+        p.getBuildersList().add(new ConditionalFailBuilder("${axis1}", "value2"));
+
+        j.assertBuildStatus(Result.FAILURE, p.scheduleBuild2(0).get());
+
+        @SuppressWarnings("deprecation")
+        Cause cause = new Cause.UserCause();
+        MatrixBuild b = p.scheduleBuild2(
+                        0,
+                        cause,
+                        Arrays.asList(new ParametersAction(new MatrixCombinationsParameterValue(
+                                "combinations",
+                                new Boolean[] {true, false, true},
+                                new String[] {"axis1=value1", "axis1=value2", "axis1=value3"}))))
+                .get();
+        j.assertBuildStatusSuccess(b);
+
+        CombinationResultsAction action = CombinationResultsAction.of(b);
+        assertNotNull(action);
+        assertEquals(bits(0, 2), action.getRunIndices(true));
+        assertEquals(bits(0, 1, 2), action.getRunIndices(false));
+        assertEquals(bits(), action.getResultIndices(true, Collections.singleton(Result.FAILURE)));
+        assertEquals(bits(1), action.getResultIndices(false, Collections.singleton(Result.FAILURE)));
+        assertEquals(bits(0, 2), action.getResultIndices(false, Collections.singleton(Result.SUCCESS)));
+        assertEquals(b.getExactRuns().get(0).getDuration(), action.getDuration(0));
+        assertEquals(-1, action.getDuration(1));
+
+        Combination c = new Combination(axes, "value1");
+        assertEquals(b.getRun(c).getUrl(), action.getRunUrl(c));
+        assertEquals(BallColor.BLUE, action.getIconColor(c));
+        assertNull(action.getRunUrl(new Combination(axes, "value2")));
+        assertNull(action.getIconColor(new Combination(axes, "value2")));
+
+        // stored in build.xml
+        CombinationResultsAction loaded =
+                (CombinationResultsAction) Jenkins.XSTREAM2.fromXML(Jenkins.XSTREAM2.toXML(action));
+        assertEquals(bits(0, 2), loaded.getRunIndices(true));
+        assertEquals(bits(1), loaded.getResultIndices(false, Collections.singleton(Result.FAILURE)));
+
+        // ignored once axes change
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2", "value3", "value4")));
+        assertNull(CombinationResultsAction.of(b));
+    }
+
+    @Test
+    public void testLinksToEarlierRuns() throws Exception {
+        AxisList axes = new AxisList(new TextAxis("axis1", "value1", "value2", "value3"));
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(axes);
+        p.addProperty(new ParametersDefinitionProperty(
+                new MatrixCombinationsParameterDefinition("combinations", ""),
+                new MatrixCombinationsParameterDefinition("others", "")));
+
+        MatrixBuild b1 = j.assertBuildStatusSuccess(p.scheduleBuild2(0));
+
+        // value2 is selected by combinations, but not run as others doesn't select it
+        MatrixBuild b2 = j.assertBuildStatusSuccess(p.scheduleBuild2(
+                0,
+                null,
+                new ParametersAction(
+                        new MatrixCombinationsParameterValue(
+                                "combinations", "", Arrays.asList("axis1=value1", "axis1=value2", "axis1=value3")),
+                        new MatrixCombinationsParameterValue(
+                                "others", "", Arrays.asList("axis1=value1", "axis1=value3")))));
+        assertNotNull(CombinationResultsAction.of(b2));
+        assertNull(b2.getExactRun(new Combination(axes, "value2")));
+
+        WebClient wc = j.createWebClient();
+        HtmlPage page = wc.getPage(b2, "parameters");
+        // links to the run of the earlier build as it did without summaries
+        j.assertCombinationChecked(page, true, axes, "value2");
+        String runUrl = b1.getExactRun(new Combination(axes, "value2")).getUrl();
+        assertNotNull(page.getFirstByXPath(String.format("//a[contains(@href, '%s')]", runUrl)));
+    }
+
+    @Test
+    public void testNotRecordedWithoutParameter() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2")));
+
+        MatrixBuild b = j.assertBuildStatusSuccess(p.scheduleBuild2(0));
+        assertNull(b.getAction(CombinationResultsAction.class));
+    }
+
+    @Test
+    public void testMalformed() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        AxisList axes = new AxisList(new TextAxis("axis1", "value1", "value2"));
+        p.setAxes(axes);
+        MatrixBuild b = j.assertBuildStatusSuccess(p.scheduleBuild2(0));
+        b.addAction(new CombinationResultsAction(EncodedCombinations.formatAxes(axes), "S1-x", ""));
+        assertNull(CombinationResultsAction.of(b));
+    }
+}
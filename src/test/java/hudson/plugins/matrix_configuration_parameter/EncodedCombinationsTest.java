@@ -0,0 +1,100 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests for {@link EncodedCombinations}
+ */
+public class EncodedCombinationsTest {
+    private static List<String> roundTrip(List<String> combinations) {
+        EncodedCombinations encoded = EncodedCombinations.encode(combinations);
+        return new EncodedCombinations(encoded.getAxes(), encoded.getRuns()).decode();
+    }
+
+    @Test
+    public void testEncode() throws Exception {
+        EncodedCombinations encoded =
+                EncodedCombinations.encode(Arrays.asList("jdk=17,os=linux", "jdk=21,os=linux", "jdk=17,os=windows"));
+        assertEquals("jdk=17,21;os=linux,windows", encoded.getAxes());
+        assertEquals("0,3", encoded.getRuns());
+        // in the order of indices
+        assertEquals(Arrays.asList("jdk=17,os=linux", "jdk=17,os=windows", "jdk=21,os=linux"), encoded.decode());
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        assertNull(EncodedCombinations.encode(new ArrayList<String>()));
+    }
+
+    @Test
+    public void testMostlySelected() throws Exception {
+        List<String> combinations = new ArrayList<>();
+        for (int i = 0; i < 20; ++i) {
+            for (int j = 0; j < 20; ++j) {
+                if (i != 3 || j != 4) {
+                    combinations.add(String.format("axis1=value%d,axis2=value%d", i, j));
+                }
+            }
+        }
+        EncodedCombinations encoded = EncodedCombinations.encode(combinations);
+        assertEquals("0,64,1,335", encoded.getRuns());
+        assertEquals(new HashSet<>(combinations), new HashSet<>(encoded.decode()));
+    }
+
+    @Test
+    public void testSpecialCharacters() throws Exception {
+        List<String> combinations = Arrays.asList("axis1=a%b;c=d,axis2=", "axis1=,axis2=e");
+        assertEquals(new HashSet<>(combinations), new HashSet<>(roundTrip(combinations)));
+    }
+
+    @Test
+    public void testDefault() throws Exception {
+        assertEquals(Arrays.asList("default"), roundTrip(Arrays.asList("default")));
+    }
+
+    @Test
+    public void testNotCombinations() throws Exception {
+        // different axes, unsorted axes, not a combination
+        List<String> combinations = Arrays.asList("axis1=value1", "axis2=value2", "axis2=value2,axis1=value1", "foo");
+        EncodedCombinations encoded = EncodedCombinations.encode(combinations);
+        assertEquals("", encoded.getAxes().substring(0, encoded.getAxes().indexOf('=')));
+        assertEquals(combinations, encoded.decode());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMalformedRuns() throws Exception {
+        new EncodedCombinations("axis1=value1,value2", "1,2").decode();
+    }
+}
@@ -33,6 +33,7 @@ import hudson.matrix.AxisList;
 import hudson.matrix.Combination;
 import hudson.matrix.MatrixProject;
 import java.io.IOException;
+import java.util.BitSet;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import org.htmlunit.WebResponse;
@@ -104,6 +105,8 @@ public class MatrixCombinationsJenkinsRule extends JenkinsRule {
                 page.getDocumentElement(), "//*[@class='matrix-combinations-parameter']", index, HtmlElement.class);
         HtmlElement shortcut = firstByXPath(param, String.format(".//a[@data-shortcut-id='%s']", name));
         shortcut.click();
+        // combinations are fetched asynchronously
+        page.getWebClient().waitForBackgroundJavaScript(10000);
     }
 
     public void assertCombinationChecked(HtmlPage page, boolean checked, AxisList axes, String... values)
@@ -164,4 +167,17 @@ public class MatrixCombinationsJenkinsRule extends JenkinsRule {
     public MatrixProject createMatrixProject() throws IOException {
         return createProject(MatrixProject.class);
     }
+
+    /**
+     * @param indices indices to set
+     * @return a bit set of the indices, to compare with indices of combinations
+     */
+    @Nonnull
+    public static BitSet bits(int... indices) {
+        BitSet bits = new BitSet();
+        for (int index : indices) {
+            bits.set(index);
+        }
+        return bits;
+    }
 }
@@ -45,6 +45,8 @@ import hudson.model.ParametersAction;
 import hudson.model.ParametersDefinitionProperty;
 import hudson.model.Result;
 import hudson.model.Run;
+import hudson.plugins.matrix_configuration_parameter.shortcut.MatrixCombinationsShortcut;
+import hudson.plugins.matrix_configuration_parameter.shortcut.ResultShortcut;
 import java.io.File;
 import java.net.URL;
 import java.net.URLEncoder;
@@ -599,6 +601,50 @@ public class MatrixCombinationsParameterDefinitionTest {
         assertNotNull(b.getExactRun(new Combination(axes, "value3")));
     }
 
+    @Test
+    public void testShortcutCombinations() throws Exception {
+        AxisList axes = new AxisList(new TextAxis("axis1", "value1", "value2", "value3"));
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(axes);
+        p.addProperty(new ParametersDefinitionProperty(new MatrixCombinationsParameterDefinition(
+                "combinations",
+                "",
+                "",
+                Arrays.<MatrixCombinationsShortcut>asList(
+                        new MatrixCombinationsShortcut.All(),
+                        new ResultShortcut("SUCCESS", false, Result.SUCCESS),
+                        new ResultShortcut("FAILURE", false, Result.FAILURE)))));
+        p.getBuildersList().add(new ConditionalFailBuilder("${axis1}", "value2"));
+
+        MatrixBuild b = p.scheduleBuild2(0).get();
+        j.assertBuildStatus(Result.FAILURE, b);
+
+        String url = String.format(
+                "%sdescriptorByName/%s/shortcutCombinations?parameter=combinations",
+                p.getUrl(), MatrixCombinationsParameterDefinition.class.getName());
+        WebClient wc = j.createWebClient();
+        assertEquals("0,1,2", wc.goTo(url + "&shortcut=0", "text/plain").getWebResponse().getContentAsString());
+        assertEquals(
+                "0,2",
+                wc.goTo(url + "&shortcut=1&build=" + b.getNumber(), "text/plain")
+                        .getWebResponse()
+                        .getContentAsString());
+        assertEquals(
+                "1",
+                wc.goTo(url + "&shortcut=2&build=" + b.getNumber(), "text/plain")
+                        .getWebResponse()
+                        .getContentAsString());
+        // no build
+        assertEquals("", wc.goTo(url + "&shortcut=2", "text/plain").getWebResponse().getContentAsString());
+
+        wc.assertFails(url + "&shortcut=3", 404);
+        wc.assertFails(
+                String.format(
+                        "%sdescriptorByName/%s/shortcutCombinations?parameter=unknown&shortcut=0",
+                        p.getUrl(), MatrixCombinationsParameterDefinition.class.getName()),
+                404);
+    }
+
     @Issue("JENKINS-42902")
     @Test
     public void testSafeTitle() throws Exception {
@@ -0,0 +1,96 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixProject;
+import hudson.matrix.TextAxis;
+import hudson.model.Cause;
+import hudson.model.ParametersAction;
+import hudson.model.ParametersDefinitionProperty;
+import java.util.Arrays;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Tests for {@link MatrixCombinationsParameterMatrixBuildListener}
+ */
+public class MatrixCombinationsParameterMatrixBuildListenerTest {
+    @ClassRule
+    public static MatrixCombinationsJenkinsRule j = new MatrixCombinationsJenkinsRule();
+
+    @Test
+    public void testMultipleValues() throws Exception {
+        AxisList axes = new AxisList(
+                new TextAxis("axis1", "value1-1", "value1-2"), new TextAxis("axis2", "value2-1", "value2-2"));
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(axes);
+        p.addProperty(new ParametersDefinitionProperty(
+                new MatrixCombinationsParameterDefinition("combinations1", ""),
+                new MatrixCombinationsParameterDefinition("combinations2", ""),
+                new MatrixCombinationsParameterDefinition("combinations3", "")));
+
+        MatrixBuild b = j.assertBuildStatusSuccess(p.scheduleBuild2(
+                0,
+                (Cause) null,
+                new ParametersAction(
+                        new MatrixCombinationsParameterValue(
+                                "combinations1",
+                                "",
+                                Arrays.asList(
+                                        "axis1=value1-1,axis2=value2-1",
+                                        "axis1=value1-1,axis2=value2-2",
+                                        "axis1=value1-2,axis2=value2-1")),
+                        new DefaultMatrixCombinationsParameterValue("combinations2", "", "axis2 == 'value2-1'"),
+                        new DefaultMatrixCombinationsParameterValue("combinations3", "", null))));
+
+        assertNotNull(b.getExactRun(new Combination(axes, "value1-1", "value2-1")));
+        assertNull(b.getExactRun(new Combination(axes, "value1-1", "value2-2")));
+        assertNotNull(b.getExactRun(new Combination(axes, "value1-2", "value2-1")));
+        assertNull(b.getExactRun(new Combination(axes, "value1-2", "value2-2")));
+    }
+
+    @Test
+    public void testAll() throws Exception {
+        AxisList axes = new AxisList(new TextAxis("axis1", "value1", "value2"));
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(axes);
+        p.addProperty(
+                new ParametersDefinitionProperty(new MatrixCombinationsParameterDefinition("combinations", "")));
+
+        MatrixBuild b = j.assertBuildStatusSuccess(p.scheduleBuild2(
+                0,
+                (Cause) null,
+                new ParametersAction(new DefaultMatrixCombinationsParameterValue("combinations", "", null))));
+
+        assertNotNull(b.getExactRun(new Combination(axes, "value1")));
+        assertNotNull(b.getExactRun(new Combination(axes, "value2")));
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixProject;
+import hudson.matrix.MatrixRun;
+import hudson.matrix.TextAxis;
+import hudson.model.ParametersAction;
+import hudson.model.ParametersDefinitionProperty;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import jenkins.model.Jenkins;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Tests for {@link MatrixCombinationsParameterRunListener}
+ */
+public class MatrixCombinationsParameterRunListenerTest {
+    @ClassRule
+    public static MatrixCombinationsJenkinsRule j = new MatrixCombinationsJenkinsRule();
+
+    @Test
+    public void testEvaluatedOnStart() throws Exception {
+        AxisList axes = new AxisList(new TextAxis("axis1", "value1", "value2", "value3"));
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(axes);
+        p.addProperty(new ParametersDefinitionProperty(
+                new MatrixCombinationsParameterDefinition("combinations", "", "axis1 != 'value2'")));
+
+        MatrixBuild b = j.assertBuildStatusSuccess(p.scheduleBuild2(0));
+
+        DefaultMatrixCombinationsParameterValue v = (DefaultMatrixCombinationsParameterValue)
+                b.getAction(ParametersAction.class).getParameter("combinations");
+        assertTrue(v.isEvaluated());
+        assertEquals(Arrays.asList("axis1=value1", "axis1=value3"), v.getCombinations());
+
+        // the result when the build started is used even after axes change
+        AxisList newAxes = new AxisList(new TextAxis("axis1", "value1", "value2", "value3", "value4"));
+        p.setAxes(newAxes);
+        assertTrue(v.combinationExists(newAxes, new Combination(newAxes, "value1")));
+        assertFalse(v.combinationExists(newAxes, new Combination(newAxes, "value2")));
+        assertFalse(v.combinationExists(newAxes, new Combination(newAxes, "value4")));
+
+        // and stored in build.xml
+        DefaultMatrixCombinationsParameterValue loaded =
+                (DefaultMatrixCombinationsParameterValue) Jenkins.XSTREAM2.fromXML(Jenkins.XSTREAM2.toXML(v));
+        assertTrue(loaded.isEvaluated());
+        assertEquals(Arrays.asList("axis1=value1", "axis1=value3"), loaded.getCombinations());
+    }
+
+    @Test
+    public void testAll() throws Exception {
+        AxisList axes = new AxisList(new TextAxis("axis1", "value1", "value2"));
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(axes);
+        p.addProperty(
+                new ParametersDefinitionProperty(new MatrixCombinationsParameterDefinition("combinations", "")));
+
+        MatrixBuild b = j.assertBuildStatusSuccess(p.scheduleBuild2(0));
+
+        DefaultMatrixCombinationsParameterValue v = (DefaultMatrixCombinationsParameterValue)
+                b.getAction(ParametersAction.class).getParameter("combinations");
+        // nothing to evaluate
+        assertFalse(v.isEvaluated());
+        assertTrue(v.combinationExists(axes, new Combination(axes, "value2")));
+    }
+
+    @Test
+    public void testShardsAdvance() throws Exception {
+        AxisList axes = new AxisList(new TextAxis("axis1", "value1", "value2", "value3", "value4", "value5"));
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(axes);
+        MatrixCombinationsParameterDefinition def =
+                new MatrixCombinationsParameterDefinition("combinations", "", "axis1 != 'value5'");
+        def.setShards(2);
+        p.addProperty(new ParametersDefinitionProperty(def));
+
+        Set<String> covered = new HashSet<>();
+        for (int i = 0; i < 3; ++i) {
+            MatrixBuild b = j.assertBuildStatusSuccess(p.scheduleBuild2(0));
+            DefaultMatrixCombinationsParameterValue v = (DefaultMatrixCombinationsParameterValue)
+                    b.getAction(ParametersAction.class).getParameter("combinations");
+            assertEquals(i % 2, v.getShard());
+            assertTrue(v.isEvaluated());
+            for (String c : v.getCombinations()) {
+                assertEquals(v.getShard(), CombinationShards.shardOf(Combination.fromString(c), 2));
+                assertFalse(c.equals("axis1=value5"));
+            }
+            if (i < 2) {
+                // shards are disjoint
+                for (String c : v.getCombinations()) {
+                    assertTrue(covered.add(c));
+                }
+            }
+            assertEquals(v.getCombinations().size(), b.getExactRuns().size());
+        }
+        assertEquals(
+                new HashSet<>(Arrays.asList("axis1=value1", "axis1=value2", "axis1=value3", "axis1=value4")), covered);
+    }
+
+    @Test
+    public void testShardsWithoutFilter() throws Exception {
+        AxisList axes = new AxisList(new TextAxis("axis1", "value1", "value2", "value3", "value4"));
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(axes);
+        MatrixCombinationsParameterDefinition def = new MatrixCombinationsParameterDefinition("combinations", "", "");
+        def.setShards(2);
+        p.addProperty(new ParametersDefinitionProperty(def));
+
+        Set<String> covered = new HashSet<>();
+        for (int i = 0; i < 2; ++i) {
+            MatrixBuild b = j.assertBuildStatusSuccess(p.scheduleBuild2(0));
+            DefaultMatrixCombinationsParameterValue v = (DefaultMatrixCombinationsParameterValue)
+                    b.getAction(ParametersAction.class).getParameter("combinations");
+            assertEquals(i, v.getShard());
+
+            Set<String> runs = new HashSet<>();
+            for (MatrixRun r : b.getExactRuns()) {
+                String c = r.getParent().getCombination().toString();
+                assertEquals(i, CombinationShards.shardOf(Combination.fromString(c), 2));
+                runs.add(c);
+            }
+            assertEquals(new HashSet<>(v.getCombinations()), runs);
+            // only a part of combinations runs
+            assertTrue(runs.size() < axes.list().size());
+            for (String c : runs) {
+                assertTrue(covered.add(c));
+            }
+        }
+        assertEquals(
+                new HashSet<>(Arrays.asList("axis1=value1", "axis1=value2", "axis1=value3", "axis1=value4")), covered);
+    }
+}
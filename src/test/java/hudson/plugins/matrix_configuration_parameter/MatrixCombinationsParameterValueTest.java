@@ -25,10 +25,15 @@
 package hudson.plugins.matrix_configuration_parameter;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import hudson.markup.RawHtmlMarkupFormatter;
 import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
 import hudson.matrix.MatrixBuild;
 import hudson.matrix.MatrixProject;
 import hudson.matrix.TextAxis;
@@ -38,7 +43,9 @@ import hudson.model.FreeStyleProject;
 import hudson.model.ParametersAction;
 import hudson.model.ParametersDefinitionProperty;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashSet;
 import jenkins.model.Jenkins;
 import org.htmlunit.html.HtmlPage;
 import org.junit.Rule;
@@ -141,6 +148,101 @@ public class MatrixCombinationsParameterValueTest {
         assertEquals(Arrays.asList("axis1=value1", "axis1=value3"), v.getCombinations());
     }
 
+    @Test
+    public void testReadResolveOfCombinationsList() throws Exception {
+        // 1.1.0 - 1.3.3
+        final String SERIALIZED = "<hudson.plugins.matrix__configuration__parameter.MatrixCombinationsParameterValue>"
+                + "<name>combinations</name>"
+                + "<description>test</description>"
+                + "<combinations>"
+                + "<string>axis1=value1-1,axis2=value2-1</string>"
+                + "<string>axis1=value1-2,axis2=value2-2</string>"
+                + "</combinations>"
+                + "</hudson.plugins.matrix__configuration__parameter.MatrixCombinationsParameterValue>";
+        MatrixCombinationsParameterValue v = (MatrixCombinationsParameterValue) Jenkins.XSTREAM2.fromXML(SERIALIZED);
+        assertEquals("combinations", v.getName());
+        assertEquals(
+                Arrays.asList("axis1=value1-1,axis2=value2-1", "axis1=value1-2,axis2=value2-2"), v.getCombinations());
+
+        // saved in the compact form
+        String xml = Jenkins.XSTREAM2.toXML(v);
+        assertFalse(xml, xml.contains("<combinations>"));
+        assertTrue(
+                xml, xml.contains("<combinationAxes>axis1=value1-1,value1-2;axis2=value2-1,value2-2</combinationAxes>"));
+        assertTrue(xml, xml.contains("<combinationRuns>0,1,2,1</combinationRuns>"));
+    }
+
+    @Test
+    public void testXmlRoundTrip() throws Exception {
+        MatrixCombinationsParameterValue v = new MatrixCombinationsParameterValue(
+                "combinations",
+                "test",
+                Arrays.asList("axis1=value1-2,axis2=value2-1", "axis1=value1-1,axis2=value2-1", "axis1=value1-3"));
+        MatrixCombinationsParameterValue restored =
+                (MatrixCombinationsParameterValue) Jenkins.XSTREAM2.fromXML(Jenkins.XSTREAM2.toXML(v));
+        assertEquals(v, restored);
+        assertEquals(new HashSet<>(v.getCombinations()), new HashSet<>(restored.getCombinations()));
+
+        MatrixCombinationsParameterValue empty =
+                new MatrixCombinationsParameterValue("combinations", "test", Collections.<String>emptyList());
+        restored = (MatrixCombinationsParameterValue) Jenkins.XSTREAM2.fromXML(Jenkins.XSTREAM2.toXML(empty));
+        assertEquals(Collections.emptyList(), restored.getCombinations());
+    }
+
+    @Test
+    public void testSharedSelection() throws Exception {
+        MatrixCombinationsParameterValue v1 = new MatrixCombinationsParameterValue(
+                "combinations", "", Arrays.asList("axis1=value1-1,axis2=value2-1", "axis1=value1-2,axis2=value2-2"));
+        MatrixCombinationsParameterValue v2 = new MatrixCombinationsParameterValue(
+                "combinations", "", Arrays.asList("axis1=value1-1,axis2=value2-1", "axis1=value1-2,axis2=value2-2"));
+        MatrixCombinationsParameterValue loaded =
+                (MatrixCombinationsParameterValue) Jenkins.XSTREAM2.fromXML(Jenkins.XSTREAM2.toXML(v1));
+        MatrixCombinationsParameterValue other = new MatrixCombinationsParameterValue(
+                "combinations", "", Arrays.asList("axis1=value1-1,axis2=value2-1"));
+
+        assertSame(v1.getCombinations(), v2.getCombinations());
+        assertSame(v1.getCombinations(), loaded.getCombinations());
+        assertNotSame(v1.getCombinations(), other.getCombinations());
+    }
+
+    @Test
+    public void testVariableResolver() throws Exception {
+        MatrixCombinationsParameterValue v = new MatrixCombinationsParameterValue(
+                "combinations", "", Arrays.asList("axis1=value1-1,axis2=value2-1", "axis1=value1-2,axis2=value2-1"));
+        assertEquals(
+                "(axis1 == 'value1-1' && axis2 == 'value2-1') || (axis1 == 'value1-2' && axis2 == 'value2-1')",
+                v.createVariableResolver(null).resolve("combinations"));
+        assertNull(v.createVariableResolver(null).resolve("other"));
+
+        MatrixCombinationsParameterValue.minimizeExpression = true;
+        try {
+            assertEquals(
+                    "axis1 in ['value1-1', 'value1-2'] && axis2 == 'value2-1'",
+                    v.createVariableResolver(null).resolve("combinations"));
+        } finally {
+            MatrixCombinationsParameterValue.minimizeExpression = false;
+        }
+    }
+
+    @Test
+    public void testSharedSelectionIndices() throws Exception {
+        CombinationSelection selection = CombinationSelection.of(Arrays.asList("axis1=value1", "axis1=value3"));
+        // like axes of different projects, or of a reloaded project
+        AxisList axes1 = new AxisList(new TextAxis("axis1", "value1", "value2", "value3"));
+        AxisList axes2 = new AxisList(new TextAxis("axis1", "value1", "value2", "value3"));
+        AxisList other = new AxisList(new TextAxis("axis1", "value3", "value2", "value1"));
+
+        BitSet indices = selection.getIndices(axes1);
+        assertEquals("{0, 2}", indices.toString());
+        assertSame(indices, selection.getIndices(axes2));
+        assertSame(indices, selection.getIndices(axes1));
+        assertEquals("{0, 2}", selection.getIndices(other).toString());
+
+        BitSet otherIndices = selection.getIndices(other);
+        assertNotSame(indices, otherIndices);
+        assertSame(otherIndices, selection.getIndices(other));
+    }
+
     @Test
     public void testReadResolveOfDefaultMatrixCombinationsParameterValue() throws Exception {
         final String SERIALIZED =
@@ -159,6 +261,34 @@ public class MatrixCombinationsParameterValueTest {
         assertEquals("axis1 != 'value2'", v.getCombinationFilter());
     }
 
+    @Test
+    public void testCombinationExists() throws Exception {
+        AxisList axes = new AxisList(
+                new TextAxis("axis1", "value1-1", "value1-2"), new TextAxis("axis2", "value2-1", "value2-2"));
+        MatrixCombinationsParameterValue v = new MatrixCombinationsParameterValue(
+                "combinations",
+                "",
+                Arrays.asList("axis1=value1-1,axis2=value2-1", "axis1=value1-2,axis2=value2-2", "axis1=value1-3"));
+
+        assertTrue(v.combinationExists(axes, new Combination(axes, "value1-1", "value2-1")));
+        assertFalse(v.combinationExists(axes, new Combination(axes, "value1-1", "value2-2")));
+        assertFalse(v.combinationExists(axes, new Combination(axes, "value1-2", "value2-1")));
+        assertTrue(v.combinationExists(axes, new Combination(axes, "value1-2", "value2-2")));
+
+        // combinations out of the axes
+        AxisList otherAxes = new AxisList(new TextAxis("axis1", "value1-1", "value1-2", "value1-3"));
+        assertTrue(v.combinationExists(axes, new Combination(otherAxes, "value1-3")));
+        assertFalse(v.combinationExists(axes, new Combination(otherAxes, "value1-1")));
+
+        // queried with other axes
+        assertTrue(v.combinationExists(otherAxes, new Combination(otherAxes, "value1-3")));
+        assertFalse(v.combinationExists(otherAxes, new Combination(otherAxes, "value1-2")));
+
+        // without axes
+        assertTrue(v.combinationExists(null, new Combination(axes, "value1-1", "value2-1")));
+        assertFalse(v.combinationExists(null, new Combination(axes, "value1-1", "value2-2")));
+    }
+
     @Issue("JENKINS-42902")
     @Test
     public void testSafeTitle() throws Exception {
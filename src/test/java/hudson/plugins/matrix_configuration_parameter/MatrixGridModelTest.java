@@ -0,0 +1,246 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixProject;
+import hudson.matrix.TextAxis;
+import hudson.model.ParametersAction;
+import hudson.model.ParametersDefinitionProperty;
+import hudson.model.Result;
+import hudson.plugins.matrix_configuration_parameter.shortcut.MatrixCombinationsShortcut;
+import hudson.plugins.matrix_configuration_parameter.shortcut.ResultShortcut;
+import java.util.Arrays;
+import net.sf.json.JSONObject;
+import org.htmlunit.html.HtmlPage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule.WebClient;
+
+/**
+ * Tests for {@link MatrixGridModel}
+ */
+public class MatrixGridModelTest {
+    @Rule
+    public MatrixCombinationsJenkinsRule j = new MatrixCombinationsJenkinsRule();
+
+    private int threshold;
+
+    @Before
+    public void renderByBrowser() {
+        threshold = MatrixGridModel.THRESHOLD;
+        MatrixGridModel.THRESHOLD = 0;
+    }
+
+    @After
+    public void restoreThreshold() {
+        MatrixGridModel.THRESHOLD = threshold;
+    }
+
+    private MatrixProject createProject(AxisList axes) throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(axes);
+        p.addProperty(new ParametersDefinitionProperty(new MatrixCombinationsParameterDefinition(
+                "combinations",
+                "",
+                "axis2 != 'x'",
+                Arrays.<MatrixCombinationsShortcut>asList(
+                        new ResultShortcut("SUCCESS", false, Result.SUCCESS), new MatrixCombinationsShortcut.All()))));
+        // fails when axis1 == value2
+        p.getBuildersList().add(new ConditionalFailBuilder("${axis1}", "value2"));
+        p.save();
+        return p;
+    }
+
+    @Test
+    public void testThreshold() throws Exception {
+        AxisList axes = new AxisList(new TextAxis("axis1", "value1", "value2"), new TextAxis("axis2", "x", "y"));
+        assertTrue(MatrixGridModel.isClientRendered(axes));
+        MatrixGridModel.THRESHOLD = 3;
+        assertTrue(MatrixGridModel.isClientRendered(axes));
+        MatrixGridModel.THRESHOLD = 4;
+        assertFalse(MatrixGridModel.isClientRendered(axes));
+        MatrixGridModel.THRESHOLD = -1;
+        assertFalse(MatrixGridModel.isClientRendered(axes));
+    }
+
+    @Test
+    public void testJson() throws Exception {
+        AxisList axes = new AxisList(new TextAxis("axis1", "value1", "value2"), new TextAxis("axis2", "x", "y"));
+        MatrixProject p = createProject(axes);
+        p.setCombinationFilter("!(axis1 == 'value2' && axis2 == 'x')");
+        MatrixCombinationsParameterDefinition def = (MatrixCombinationsParameterDefinition)
+                p.getProperty(ParametersDefinitionProperty.class).getParameterDefinition("combinations");
+
+        JSONObject json = JSONObject.fromObject(
+                MatrixGridModel.forDefinition(def, p, null).getJson());
+        assertEquals("axis1=value1,value2;axis2=x,y", json.getString("axes"));
+        assertEquals(2, json.getJSONArray("x").size() + json.getJSONArray("y").size());
+        assertEquals(0, json.getJSONArray("z").size());
+        assertEquals("0,2,1,1", json.getString("active"));
+        assertEquals("1,1,1,1", json.getString("checked"));
+        assertEquals("", json.getString("results"));
+        assertEquals(p.getUrl(), json.getString("url"));
+        assertEquals(0, json.getInt("build"));
+        assertFalse(json.getBoolean("readonly"));
+
+        // builds axis2 == 'y' by default
+        MatrixBuild b = j.assertBuildStatus(Result.FAILURE, p.scheduleBuild2(0).get());
+        json = JSONObject.fromObject(MatrixGridModel.forDefinition(def, p, b).getJson());
+        assertEquals("-1S1-1F1", json.getString("results"));
+        assertEquals(b.getNumber(), json.getInt("build"));
+
+        MatrixCombinationsParameterValue value = new MatrixCombinationsParameterValue(
+                "combinations",
+                "",
+                Arrays.asList(
+                        new Combination(axes, "value1", "x").toString(),
+                        new Combination(axes, "value1", "y").toString()));
+        json = JSONObject.fromObject(MatrixGridModel.forValue(value, p, b, true).getJson());
+        // only combinations run in the build
+        assertEquals("1,1", json.getString("checked"));
+        assertTrue(json.getBoolean("readonly"));
+    }
+
+    @Test
+    public void testEarlierRuns() throws Exception {
+        AxisList axes = new AxisList(new TextAxis("axis1", "value1", "value2"), new TextAxis("axis2", "x", "y"));
+        MatrixProject p = createProject(axes);
+        MatrixCombinationsParameterValue all = new MatrixCombinationsParameterValue(
+                "combinations",
+                "",
+                Arrays.asList(
+                        new Combination(axes, "value1", "x").toString(),
+                        new Combination(axes, "value1", "y").toString(),
+                        new Combination(axes, "value2", "x").toString(),
+                        new Combination(axes, "value2", "y").toString()));
+        MatrixCombinationsParameterValue part = new MatrixCombinationsParameterValue(
+                "combinations",
+                "",
+                Arrays.asList(
+                        new Combination(axes, "value1", "x").toString(),
+                        new Combination(axes, "value1", "y").toString()));
+        MatrixBuild b1 = j.assertBuildStatus(
+                Result.FAILURE, p.scheduleBuild2(0, null, new ParametersAction(all)).get());
+        MatrixBuild b2 = j.assertBuildStatusSuccess(p.scheduleBuild2(0, null, new ParametersAction(part)));
+        j.assertBuildStatus(Result.FAILURE, p.scheduleBuild2(0, null, new ParametersAction(all)).get());
+
+        // runs of value2 are ones of the first build rather than the latest ones
+        JSONObject json = JSONObject.fromObject(MatrixGridModel.forValue(part, p, b2, true).getJson());
+        assertEquals("S2f2", json.getString("results"));
+        assertEquals(String.format("%d:2", b1.getNumber()), json.getString("earlier"));
+        assertEquals(b2.getNumber(), json.getInt("build"));
+
+        WebClient wc = j.createWebClient();
+        HtmlPage page = wc.getPage(b2, "parameters");
+        assertNotNull(page.getFirstByXPath(String.format(
+                "//*[@class='matrix-combinations-grid']//a[contains(@href, 'value2') and contains(@href, '/%d/')]",
+                b1.getNumber())));
+    }
+
+    @Test
+    public void testJsonEscape() throws Exception {
+        AxisList axes = new AxisList(new TextAxis("axis1", "value1", "value2"), new TextAxis("axis2", "x", "\"<y>\\"));
+        MatrixProject p = createProject(axes);
+        MatrixCombinationsParameterDefinition def = (MatrixCombinationsParameterDefinition)
+                p.getProperty(ParametersDefinitionProperty.class).getParameterDefinition("combinations");
+
+        String json = MatrixGridModel.forDefinition(def, p, null).getJson();
+        assertFalse(json.contains("<"));
+        assertFalse(json.contains(">"));
+        assertEquals(
+                "axis1=value1,value2;axis2=x,\"<y>\\",
+                JSONObject.fromObject(json).getString("axes"));
+    }
+
+    @Test
+    public void testBuildPage() throws Exception {
+        AxisList axes = new AxisList(new TextAxis("axis1", "value1", "value2"), new TextAxis("axis2", "x", "y"));
+        MatrixProject p = createProject(axes);
+        j.assertBuildStatus(Result.FAILURE, p.scheduleBuild2(0).get());
+
+        WebClient wc = j.createAllow405WebClient();
+        HtmlPage page = wc.getPage(p, "build");
+        assertNotNull(page.getFirstByXPath("//*[@class='matrix-combinations-grid']"));
+
+        // the default filter
+        j.assertCombinationChecked(page, false, axes, "value1", "x");
+        j.assertCombinationChecked(page, true, axes, "value1", "y");
+        j.assertCombinationChecked(page, false, axes, "value2", "x");
+        j.assertCombinationChecked(page, true, axes, "value2", "y");
+
+        j.clickShortcut(page, "SUCCESS");
+        j.assertCombinationChecked(page, false, axes, "value1", "x");
+        j.assertCombinationChecked(page, true, axes, "value1", "y");
+        j.assertCombinationChecked(page, false, axes, "value2", "x");
+        j.assertCombinationChecked(page, false, axes, "value2", "y");
+
+        j.checkCombination(page, true, axes, "value1", "x");
+        j.submit(page.getFormByName("parameters"));
+        j.waitUntilNoActivity();
+
+        MatrixBuild b = p.getLastBuild();
+        j.assertBuildStatusSuccess(b);
+        assertNotNull(b.getExactRun(new Combination(axes, "value1", "x")));
+        assertNotNull(b.getExactRun(new Combination(axes, "value1", "y")));
+        assertNull(b.getExactRun(new Combination(axes, "value2", "x")));
+        assertNull(b.getExactRun(new Combination(axes, "value2", "y")));
+    }
+
+    @Test
+    public void testParametersPage() throws Exception {
+        AxisList axes = new AxisList(new TextAxis("axis1", "value1", "value2"), new TextAxis("axis2", "x", "y"));
+        MatrixProject p = createProject(axes);
+        MatrixBuild b = j.assertBuildStatusSuccess(p.scheduleBuild2(
+                0,
+                null,
+                new ParametersAction(new MatrixCombinationsParameterValue(
+                        "combinations",
+                        "",
+                        Arrays.asList(
+                                new Combination(axes, "value1", "x").toString(),
+                                new Combination(axes, "value1", "y").toString())))));
+
+        WebClient wc = j.createWebClient();
+        HtmlPage page = wc.getPage(b, "parameters");
+        j.assertCombinationChecked(page, true, axes, "value1", "x");
+        j.assertCombinationChecked(page, true, axes, "value1", "y");
+        j.assertCombinationChecked(page, false, axes, "value2", "x");
+        j.assertCombinationChecked(page, false, axes, "value2", "y");
+        // links to runs of the build
+        assertNotNull(page.getFirstByXPath(
+                String.format("//*[@class='matrix-combinations-grid']//a[contains(@href, '/%d/')]", b.getNumber())));
+    }
+}
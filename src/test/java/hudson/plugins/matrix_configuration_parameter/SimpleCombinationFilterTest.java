@@ -0,0 +1,180 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import hudson.matrix.Axis;
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.TextAxis;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+
+/**
+ * Tests for {@link SimpleCombinationFilter}
+ */
+public class SimpleCombinationFilterTest {
+    @ClassRule
+    public static JenkinsRule j = new JenkinsRule();
+
+    @Test
+    public void testSupported() throws Exception {
+        Combination c = new Combination(
+                new AxisList(new TextAxis("os", "linux", "windows"), new TextAxis("jdk", "17", "21")), "linux", "21");
+
+        assertEquals(true, SimpleCombinationFilter.parse("os == 'linux'").evaluate(c));
+        assertEquals(false, SimpleCombinationFilter.parse("os != 'linux'").evaluate(c));
+        assertEquals(true, SimpleCombinationFilter.parse("'linux' == os").evaluate(c));
+        assertEquals(true, SimpleCombinationFilter.parse("os == \"linux\"").evaluate(c));
+        assertEquals(true, SimpleCombinationFilter.parse("jdk in ['17', '21']").evaluate(c));
+        assertEquals(false, SimpleCombinationFilter.parse("jdk in []").evaluate(c));
+        assertEquals(
+                true,
+                SimpleCombinationFilter.parse("os == 'linux' && (jdk == '17' || jdk == '21')")
+                        .evaluate(c));
+        assertEquals(false, SimpleCombinationFilter.parse("!(os == 'linux')").evaluate(c));
+        assertEquals(true, SimpleCombinationFilter.parse("!false").evaluate(c));
+        // refers an undefined axis
+        assertNull(SimpleCombinationFilter.parse("db == 'pg'").evaluate(c));
+    }
+
+    @Test
+    public void testUnsupported() throws Exception {
+        for (String expression : new String[] {
+            "",
+            "os",
+            "!os == 'linux'",
+            "(os == 'linux') == true",
+            "os == 'linux' == true",
+            "index == 0",
+            "uniqueId == 0",
+            "it == 'linux'",
+            "String == 'linux'",
+            "os == \"${jdk}\"",
+            "os == 'lin\\'ux'",
+            "os ==~ /linux/",
+            "os == 'linux'\n|| true",
+            "os == 'linux'; true",
+            "os.startsWith('lin')",
+            "os == 'linux' &&",
+            "(os == 'linux'",
+            "jdk in ['17',]",
+        }) {
+            assertNull(expression, SimpleCombinationFilter.parse(expression));
+        }
+    }
+
+    /**
+     * Compares results with Groovy for randomly generated axes and expressions.
+     */
+    @Test
+    public void testSameResultsAsGroovy() throws Exception {
+        Random random = new Random(0x6d617472L);
+        for (int i = 0; i < 20; ++i) {
+            AxisList axes = randomAxes(random);
+            for (int k = 0; k < 10; ++k) {
+                String expression = randomExpression(random, axes, 3);
+                SimpleCombinationFilter filter = SimpleCombinationFilter.parse(expression);
+                assertNotNull(expression, filter);
+                for (Combination c : axes.list()) {
+                    assertEquals(
+                            String.format("%s for %s", expression, c),
+                            c.evalGroovyExpression(axes, expression),
+                            filter.evaluate(c));
+                }
+            }
+        }
+    }
+
+    private static AxisList randomAxes(Random random) {
+        int axisCount = 1 + random.nextInt(3);
+        List<Axis> axes = new ArrayList<>();
+        for (int i = 0; i < axisCount; ++i) {
+            int valueCount = 1 + random.nextInt(3);
+            List<String> values = new ArrayList<>();
+            for (int v = 0; v < valueCount; ++v) {
+                values.add(String.format("v%d-%d", i, v));
+            }
+            axes.add(new TextAxis(String.format("axis%d", i), values));
+        }
+        return new AxisList(axes);
+    }
+
+    private static String randomValue(Random random, Axis axis) {
+        // sometimes a value not in the axis
+        int index = random.nextInt(axis.size() + 1);
+        return (index < axis.size()) ? axis.value(index) : "unknown";
+    }
+
+    private static String randomExpression(Random random, AxisList axes, int depth) {
+        int choice = random.nextInt((depth > 0) ? 9 : 4);
+        Axis axis = axes.get(random.nextInt(axes.size()));
+        switch (choice) {
+            case 0:
+                return String.format("%s == '%s'", axis.getName(), randomValue(random, axis));
+            case 1:
+                return String.format("'%s' != %s", randomValue(random, axis), axis.getName());
+            case 2: {
+                List<String> candidates = new ArrayList<>();
+                for (int i = random.nextInt(3); i > 0; --i) {
+                    candidates.add(String.format("'%s'", randomValue(random, axis)));
+                }
+                return String.format("%s in [%s]", axis.getName(), String.join(", ", candidates));
+            }
+            case 3:
+                return random.nextBoolean() ? "true" : "false";
+            case 4:
+            case 5:
+                return String.format(
+                        "%s && %s",
+                        randomExpression(random, axes, depth - 1),
+                        randomExpression(random, axes, depth - 1));
+            case 6:
+            case 7:
+                return String.format(
+                        "%s || %s",
+                        randomExpression(random, axes, depth - 1),
+                        randomExpression(random, axes, depth - 1));
+            default:
+                return String.format(
+                        "%s(%s)", random.nextBoolean() ? "!" : "", randomExpression(random, axes, depth - 1));
+        }
+    }
+
+    @Test
+    public void testVariables() throws Exception {
+        SimpleCombinationFilter filter = SimpleCombinationFilter.parse("os == 'linux' || jdk in ['17']");
+        assertEquals(2, filter.getVariables().size());
+        assertEquals(Collections.emptySet(), SimpleCombinationFilter.parse("true").getVariables());
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import static org.junit.Assert.assertEquals;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.MatrixProject;
+import hudson.matrix.TextAxis;
+import hudson.model.Item;
+import hudson.model.ParametersDefinitionProperty;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsJenkinsRule;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsParameterDefinition;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.htmlunit.html.HtmlPage;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule.WebClient;
+
+/**
+ * Tests for {@link BudgetShortcut}
+ */
+public class BudgetShortcutTest {
+    @ClassRule
+    public static MatrixCombinationsJenkinsRule j = new MatrixCombinationsJenkinsRule();
+
+    @Test
+    public void testConfiguration() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2", "value3")));
+        MatrixCombinationsParameterDefinition def = new MatrixCombinationsParameterDefinition(
+                "COMBINATIONS", "", "", Arrays.<MatrixCombinationsShortcut>asList(new BudgetShortcut("30min", 30, 4)));
+        p.addProperty(new ParametersDefinitionProperty(def));
+
+        j.configRoundtrip((Item) p);
+
+        j.assertEqualDataBoundBeans(
+                def, p.getProperty(ParametersDefinitionProperty.class).getParameterDefinition("COMBINATIONS"));
+    }
+
+    @Test
+    public void testSelect() throws Exception {
+        long minute = TimeUnit.MINUTES.toMillis(1);
+        List<BudgetShortcut.Candidate> candidates = Arrays.asList(
+                new BudgetShortcut.Candidate(0, true, 5, 10 * minute),
+                new BudgetShortcut.Candidate(1, false, 1, 10 * minute),
+                new BudgetShortcut.Candidate(2, false, 5, 10 * minute),
+                // never run: the average of others is assumed
+                new BudgetShortcut.Candidate(3, false, 0, -1),
+                new BudgetShortcut.Candidate(4, false, 2, 30 * minute),
+                new BudgetShortcut.Candidate(5, false, 3, 5 * minute));
+
+        BitSet expected = new BitSet();
+        // the failed one, never run one, and the short one fitting the rest
+        expected.set(0);
+        expected.set(3);
+        expected.set(5);
+        assertEquals(expected, BudgetShortcut.select(candidates, 28 * minute, 1));
+
+        expected.set(1);
+        expected.set(2);
+        assertEquals(expected, BudgetShortcut.select(candidates, 28 * minute, 2));
+
+        assertEquals(new BitSet(), BudgetShortcut.select(candidates, 0, 2));
+    }
+
+    @Test
+    public void testCheck() throws Exception {
+        AxisList axes = new AxisList(new TextAxis("axis1", "value1", "value2", "value3"));
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(axes);
+        p.setCombinationFilter("axis1 != 'value3'");
+        MatrixCombinationsParameterDefinition def = new MatrixCombinationsParameterDefinition(
+                "COMBINATIONS", "", "", Arrays.<MatrixCombinationsShortcut>asList(new BudgetShortcut("budget", 60, 1)));
+        p.addProperty(new ParametersDefinitionProperty(def));
+
+        j.assertBuildStatusSuccess(p.scheduleBuild2(0));
+
+        WebClient wc = j.createAllow405WebClient();
+        HtmlPage page = wc.getPage(p, "build");
+
+        j.clickShortcut(page, "budget");
+
+        j.assertCombinationChecked(page, true, axes, "value1");
+        j.assertCombinationChecked(page, true, axes, "value2");
+        j.assertCombinationChecked(page, false, axes, "value3");
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import static hudson.plugins.matrix_configuration_parameter.MatrixCombinationsJenkinsRule.bits;
+import static org.junit.Assert.assertEquals;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixProject;
+import hudson.matrix.TextAxis;
+import hudson.model.Item;
+import hudson.model.ParametersDefinitionProperty;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsJenkinsRule;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsParameterDefinition;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.jvnet.hudson.test.FakeChangeLogSCM;
+
+/**
+ * Tests for {@link ChangeSetShortcut}
+ */
+public class ChangeSetShortcutTest {
+    @ClassRule
+    public static MatrixCombinationsJenkinsRule j = new MatrixCombinationsJenkinsRule();
+
+    private static final String RULES = "# comment\n"
+            + "native/win/** os=windows\n"
+            + "native/unix/** os=linux\n"
+            + "native/unix/** os=macos\n"
+            + "\n"
+            + "docs/ os=linux,jdk=21\n"
+            + "malformed\n";
+
+    @Test
+    public void testConfiguration() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2", "value3")));
+        MatrixCombinationsParameterDefinition def = new MatrixCombinationsParameterDefinition(
+                "COMBINATIONS",
+                "",
+                "",
+                Arrays.<MatrixCombinationsShortcut>asList(new ChangeSetShortcut("changes", RULES)));
+        p.addProperty(new ParametersDefinitionProperty(def));
+
+        j.configRoundtrip((Item) p);
+
+        j.assertEqualDataBoundBeans(
+                def, p.getProperty(ParametersDefinitionProperty.class).getParameterDefinition("COMBINATIONS"));
+    }
+
+    private static boolean matches(String glob, String path) {
+        return new ChangeSetShortcut.Rule(glob, Collections.<String, String>emptyMap()).matches(path);
+    }
+
+    @Test
+    public void testRules() throws Exception {
+        assertEquals(4, ChangeSetShortcut.Rule.parse(RULES).size());
+        assertEquals(true, matches("**/*.md", "README.md"));
+        assertEquals(true, matches("**/*.md", "a/b.md"));
+        assertEquals(false, matches("*.md", "a/b.md"));
+        assertEquals(false, matches("a.md", "a-md"));
+        assertEquals(true, matches("docs/", "docs/a/b.md"));
+    }
+
+    @Test
+    public void testPaths() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        // os=linux,macos,windows x jdk=17,21
+        p.setAxes(new AxisList(new TextAxis("os", "linux", "macos", "windows"), new TextAxis("jdk", "17", "21")));
+        ChangeSetShortcut shortcut = new ChangeSetShortcut("changes", RULES);
+
+        assertEquals(bits(4, 5), shortcut.getCombinationIndices(p, Arrays.asList("native/win/a.c")));
+        assertEquals(bits(0, 1, 2, 3), shortcut.getCombinationIndices(p, Arrays.asList("native/unix/a.c")));
+        assertEquals(bits(1, 4, 5), shortcut.getCombinationIndices(p, Arrays.asList("native/win/a.c", "docs/a.md")));
+        // not mapped
+        assertEquals(
+                bits(0, 1, 2, 3, 4, 5),
+                shortcut.getCombinationIndices(p, Arrays.asList("native/win/a.c", "pom.xml")));
+        assertEquals(bits(), shortcut.getCombinationIndices(p, Collections.<String>emptyList()));
+    }
+
+    @Test
+    public void testChangeSets() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("os", "linux", "windows")));
+        FakeChangeLogSCM scm = new FakeChangeLogSCM();
+        scm.addChange().withMsg("change");
+        p.setScm(scm);
+        ChangeSetShortcut shortcut = new ChangeSetShortcut("changes", RULES);
+
+        assertEquals(bits(), shortcut.getCombinationIndices(p, (MatrixBuild) null));
+
+        MatrixBuild b = j.buildAndAssertSuccess(p);
+        // FakeChangeLogSCM reports a path not mapped by the rules
+        assertEquals(bits(0, 1), shortcut.getCombinationIndices(p, b));
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import static hudson.plugins.matrix_configuration_parameter.MatrixCombinationsJenkinsRule.bits;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixProject;
+import hudson.matrix.TextAxis;
+import hudson.model.Item;
+import hudson.model.ParametersAction;
+import hudson.model.ParametersDefinitionProperty;
+import hudson.model.Result;
+import hudson.plugins.matrix_configuration_parameter.ConditionalFailBuilder;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsJenkinsRule;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsParameterDefinition;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsParameterValue;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Tests for {@link CompositeShortcut}
+ */
+public class CompositeShortcutTest {
+    @ClassRule
+    public static MatrixCombinationsJenkinsRule j = new MatrixCombinationsJenkinsRule();
+
+    @Test
+    public void testConfiguration() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2", "value3")));
+        MatrixCombinationsParameterDefinition def = new MatrixCombinationsParameterDefinition(
+                "COMBINATIONS",
+                "",
+                "",
+                Arrays.<MatrixCombinationsShortcut>asList(new CompositeShortcut(
+                        "composite",
+                        CompositeShortcut.Operation.DIFFERENCE,
+                        Arrays.asList(
+                                new ResultShortcut("Failed", false, Result.FAILURE),
+                                new CombinationFilterShortcut("value1", "axis1 == 'value1'")))));
+        p.addProperty(new ParametersDefinitionProperty(def));
+
+        j.configRoundtrip((Item) p);
+
+        j.assertEqualDataBoundBeans(
+                def, p.getProperty(ParametersDefinitionProperty.class).getParameterDefinition("COMBINATIONS"));
+    }
+
+    private static CompositeShortcut composite(CompositeShortcut.Operation operation, String... filters) {
+        MatrixCombinationsShortcut[] shortcuts = new MatrixCombinationsShortcut[filters.length];
+        for (int i = 0; i < filters.length; ++i) {
+            shortcuts[i] = new CombinationFilterShortcut(filters[i], filters[i]);
+        }
+        return new CompositeShortcut("composite", operation, Arrays.asList(shortcuts));
+    }
+
+    @Test
+    public void testOperations() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        // os=linux,windows x jdk=17,21
+        p.setAxes(new AxisList(new TextAxis("os", "linux", "windows"), new TextAxis("jdk", "17", "21")));
+
+        assertEquals(
+                bits(0, 1, 3),
+                composite(CompositeShortcut.Operation.UNION, "os == 'linux'", "jdk == '21'")
+                        .getCombinationIndices(p, null));
+        assertEquals(
+                bits(1),
+                composite(CompositeShortcut.Operation.INTERSECTION, "os == 'linux'", "jdk == '21'")
+                        .getCombinationIndices(p, null));
+        assertEquals(
+                bits(0),
+                composite(CompositeShortcut.Operation.DIFFERENCE, "os == 'linux'", "jdk == '21'")
+                        .getCombinationIndices(p, null));
+        assertEquals(
+                bits(2),
+                composite(CompositeShortcut.Operation.DIFFERENCE, "true", "os == 'linux'", "jdk == '21'")
+                        .getCombinationIndices(p, null));
+        assertEquals(
+                bits(),
+                new CompositeShortcut(
+                                "composite",
+                                CompositeShortcut.Operation.UNION,
+                                Collections.<MatrixCombinationsShortcut>emptyList())
+                        .getCombinationIndices(p, null));
+
+        // cached results of nested shortcuts are not modified
+        CombinationFilterShortcut linux = new CombinationFilterShortcut("linux", "os == 'linux'");
+        new CompositeShortcut(
+                        "composite",
+                        CompositeShortcut.Operation.UNION,
+                        Arrays.<MatrixCombinationsShortcut>asList(
+                                linux, new CombinationFilterShortcut("windows", "os == 'windows'")))
+                .getCombinationIndices(p, null);
+        assertEquals(bits(0, 1), linux.getCachedCombinationIndices(p, null));
+    }
+
+    @Test
+    public void testNestedConfiguration() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2", "value3")));
+        MatrixCombinationsParameterDefinition def = new MatrixCombinationsParameterDefinition(
+                "COMBINATIONS",
+                "",
+                "",
+                Arrays.<MatrixCombinationsShortcut>asList(new CompositeShortcut(
+                        "composite",
+                        CompositeShortcut.Operation.DIFFERENCE,
+                        Arrays.asList(
+                                new CompositeShortcut(
+                                        "nested",
+                                        CompositeShortcut.Operation.UNION,
+                                        Arrays.asList(
+                                                new ResultShortcut("Failed", false, Result.FAILURE),
+                                                new PreviousShortcut())),
+                                new CombinationFilterShortcut("value1", "axis1 == 'value1'")))));
+        p.addProperty(new ParametersDefinitionProperty(def));
+
+        j.configRoundtrip((Item) p);
+
+        j.assertEqualDataBoundBeans(
+                def, p.getProperty(ParametersDefinitionProperty.class).getParameterDefinition("COMBINATIONS"));
+    }
+
+    @Test
+    public void testNested() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        // os=linux,windows x jdk=17,21
+        AxisList axes = new AxisList(new TextAxis("os", "linux", "windows"), new TextAxis("jdk", "17", "21"));
+        p.setAxes(axes);
+        p.addProperty(
+                new ParametersDefinitionProperty(new MatrixCombinationsParameterDefinition("combinations", "")));
+        p.getBuildersList().add(new ConditionalFailBuilder("${jdk}", "21"));
+
+        // jdk=21 fails
+        j.assertBuildStatus(Result.FAILURE, p.scheduleBuild2(0).get());
+        // runs only os=linux,jdk=17
+        MatrixBuild b = j.assertBuildStatusSuccess(p.scheduleBuild2(
+                0,
+                null,
+                new ParametersAction(new MatrixCombinationsParameterValue(
+                        "combinations", "", Arrays.asList(new Combination(axes, "linux", "17").toString())))));
+
+        // Failed or Previous, but not os=windows
+        CompositeShortcut shortcut = new CompositeShortcut(
+                "composite",
+                CompositeShortcut.Operation.DIFFERENCE,
+                Arrays.asList(
+                        new CompositeShortcut(
+                                "nested",
+                                CompositeShortcut.Operation.UNION,
+                                Arrays.asList(
+                                        new ResultShortcut("Failed", false, Result.FAILURE), new PreviousShortcut())),
+                        new CombinationFilterShortcut("windows", "os == 'windows'")));
+        assertEquals(bits(0, 1), shortcut.getCombinationIndices(p, b));
+        assertTrue(shortcut.isCacheable(p));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixConfiguration;
+import hudson.matrix.MatrixProject;
+import hudson.matrix.TextAxis;
+import hudson.model.Item;
+import hudson.model.ParametersDefinitionProperty;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsJenkinsRule;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsParameterDefinition;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Tests for {@link CoveringArrayShortcut}
+ */
+public class CoveringArrayShortcutTest {
+    @ClassRule
+    public static MatrixCombinationsJenkinsRule j = new MatrixCombinationsJenkinsRule();
+
+    @Test
+    public void testConfiguration() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2", "value3")));
+        MatrixCombinationsParameterDefinition def = new MatrixCombinationsParameterDefinition(
+                "COMBINATIONS",
+                "",
+                "",
+                Arrays.<MatrixCombinationsShortcut>asList(new CoveringArrayShortcut("3-wise", 3)));
+        p.addProperty(new ParametersDefinitionProperty(def));
+
+        j.configRoundtrip((Item) p);
+
+        j.assertEqualDataBoundBeans(
+                def, p.getProperty(ParametersDefinitionProperty.class).getParameterDefinition("COMBINATIONS"));
+    }
+
+    private static Set<String> pairs(Collection<Combination> combinations) {
+        Set<String> pairs = new HashSet<>();
+        for (Combination c : combinations) {
+            for (String a : c.keySet()) {
+                for (String b : c.keySet()) {
+                    if (a.compareTo(b) < 0) {
+                        pairs.add(String.format("%s=%s,%s=%s", a, c.get(a), b, c.get(b)));
+                    }
+                }
+            }
+        }
+        return pairs;
+    }
+
+    @Test
+    public void testPairwise() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(
+                new TextAxis("axis1", "value1", "value2", "value3"),
+                new TextAxis("axis2", "value1", "value2", "value3"),
+                new TextAxis("axis3", "value1", "value2", "value3"),
+                new TextAxis("axis4", "value1", "value2", "value3")));
+        p.setCombinationFilter("!(axis1 == 'value1' && axis2 == 'value1')");
+
+        Set<Combination> active = new HashSet<>();
+        for (MatrixConfiguration c : p.getActiveConfigurations()) {
+            active.add(c.getCombination());
+        }
+
+        Collection<Combination> combinations = new CoveringArrayShortcut("pairwise", 2).getCombinations(p, null);
+        assertTrue(active.containsAll(combinations));
+        assertEquals(pairs(active), pairs(combinations));
+        assertTrue(combinations.size() < active.size() / 3);
+        assertFalse(pairs(combinations).contains("axis1=value1,axis2=value1"));
+
+        // same result from the cache
+        assertEquals(combinations, new CoveringArrayShortcut("pairwise", 2).getCombinations(p, null));
+
+        // all are needed
+        assertEquals(
+                active.size(),
+                new CoveringArrayShortcut("4-wise", 4).getCombinations(p, null).size());
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import static hudson.plugins.matrix_configuration_parameter.MatrixCombinationsJenkinsRule.bits;
+import static org.junit.Assert.assertEquals;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.LabelAxis;
+import hudson.matrix.MatrixProject;
+import hudson.matrix.TextAxis;
+import hudson.model.Item;
+import hudson.model.Label;
+import hudson.model.ParametersDefinitionProperty;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsJenkinsRule;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsParameterDefinition;
+import java.util.Arrays;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ExecutorShortcut}
+ */
+public class ExecutorShortcutTest {
+    @Rule
+    public MatrixCombinationsJenkinsRule j = new MatrixCombinationsJenkinsRule();
+
+    @Test
+    public void testConfiguration() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2", "value3")));
+        MatrixCombinationsParameterDefinition def = new MatrixCombinationsParameterDefinition(
+                "COMBINATIONS",
+                "",
+                "",
+                Arrays.<MatrixCombinationsShortcut>asList(new ExecutorShortcut("available", true)));
+        p.addProperty(new ParametersDefinitionProperty(def));
+
+        j.configRoundtrip((Item) p);
+
+        j.assertEqualDataBoundBeans(
+                def, p.getProperty(ParametersDefinitionProperty.class).getParameterDefinition("COMBINATIONS"));
+    }
+
+    @Test
+    public void testAvailableExecutors() throws Exception {
+        j.jenkins.setNumExecutors(0);
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(
+                new LabelAxis("label", Arrays.asList("linux", "windows")), new TextAxis("axis1", "value1", "value2")));
+
+        assertEquals(bits(), new ExecutorShortcut("available", true).getCombinationIndices(p, null));
+
+        // label=linux,axis1=value1 takes the only executor
+        j.createOnlineSlave(Label.get("linux"));
+        assertEquals(bits(0), new ExecutorShortcut("available", true).getCombinationIndices(p, null));
+
+        // windows ones can run only on the second, and take it first
+        j.createOnlineSlave(Label.get("linux windows"));
+        assertEquals(bits(0, 2), new ExecutorShortcut("available", true).getCombinationIndices(p, null));
+        assertEquals(bits(0, 2), new ExecutorShortcut("available", false).getCombinationIndices(p, null));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import static hudson.plugins.matrix_configuration_parameter.MatrixCombinationsJenkinsRule.bits;
+import static org.junit.Assert.assertEquals;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixProject;
+import hudson.matrix.TextAxis;
+import hudson.model.Cause;
+import hudson.model.ParametersAction;
+import hudson.model.ParametersDefinitionProperty;
+import hudson.model.Result;
+import hudson.plugins.matrix_configuration_parameter.ConditionalFailBuilder;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsJenkinsRule;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsParameterDefinition;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsParameterValue;
+import java.util.Arrays;
+import java.util.BitSet;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Tests for {@link FaultLocalizationShortcut}
+ */
+public class FaultLocalizationShortcutTest {
+    @ClassRule
+    public static MatrixCombinationsJenkinsRule j = new MatrixCombinationsJenkinsRule();
+
+    @Test
+    public void testLocate() throws Exception {
+        // os=a,b x jdk=1,2,3
+        int[] radices = {2, 3};
+        BitSet all = bits(0, 1, 2, 3, 4, 5);
+
+        // os=a,jdk=1 failed: itself, one for os and one for jdk
+        assertEquals(bits(0, 1, 3), FaultLocalizationShortcut.locate(radices, all, bits(0), bits(0)));
+
+        // os=b,jdk=2 also failed: the same two tell both
+        assertEquals(bits(0, 1, 3, 4), FaultLocalizationShortcut.locate(radices, all, bits(0, 4), bits(0, 4)));
+
+        // known results are used
+        assertEquals(bits(0, 1), FaultLocalizationShortcut.locate(radices, all, bits(0), bits(0, 3)));
+        assertEquals(bits(0), FaultLocalizationShortcut.locate(radices, all, bits(0), bits(0, 2, 3)));
+
+        // inactive ones are not probed
+        assertEquals(bits(0, 2), FaultLocalizationShortcut.locate(radices, bits(0, 2), bits(0), bits(0)));
+    }
+
+    @Test
+    public void testCheck() throws Exception {
+        AxisList axes = new AxisList(new TextAxis("os", "a", "b"), new TextAxis("jdk", "1", "2", "3"));
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(axes);
+        p.addProperty(new ParametersDefinitionProperty(new MatrixCombinationsParameterDefinition(
+                "COMBINATIONS",
+                "",
+                "",
+                Arrays.<MatrixCombinationsShortcut>asList(new FaultLocalizationShortcut("localize")))));
+        p.getBuildersList().add(new ConditionalFailBuilder("${os}", "a"));
+
+        // all combinations run: confirm failures
+        MatrixBuild full = j.assertBuildStatus(Result.FAILURE, p.scheduleBuild2(0).get());
+        assertEquals(bits(0, 1, 2), new FaultLocalizationShortcut("localize").getCombinationIndices(p, full));
+
+        @SuppressWarnings("deprecation")
+        Cause cause = new Cause.UserCause();
+        MatrixBuild b = p.scheduleBuild2(
+                        0,
+                        cause,
+                        Arrays.asList(new ParametersAction(new MatrixCombinationsParameterValue(
+                                "COMBINATIONS", new Boolean[] {true}, new String[] {"jdk=1,os=a"}))))
+                .get();
+        j.assertBuildStatus(Result.FAILURE, b);
+
+        // runs of the earlier build don't answer
+        assertEquals(bits(0, 1, 3), new FaultLocalizationShortcut("localize").getCombinationIndices(p, b));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import static hudson.plugins.matrix_configuration_parameter.MatrixCombinationsJenkinsRule.bits;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixProject;
+import hudson.matrix.TextAxis;
+import hudson.model.Cause;
+import hudson.model.Item;
+import hudson.model.ParametersAction;
+import hudson.model.ParametersDefinitionProperty;
+import hudson.model.StringParameterDefinition;
+import hudson.model.StringParameterValue;
+import hudson.plugins.matrix_configuration_parameter.CombinationHistory;
+import hudson.plugins.matrix_configuration_parameter.ConditionalFailBuilder;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsJenkinsRule;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsParameterDefinition;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsParameterValue;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Tests for {@link FlakyShortcut}
+ */
+public class FlakyShortcutTest {
+    @ClassRule
+    public static MatrixCombinationsJenkinsRule j = new MatrixCombinationsJenkinsRule();
+
+    @Test
+    public void testConfiguration() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2", "value3")));
+        MatrixCombinationsParameterDefinition def = new MatrixCombinationsParameterDefinition(
+                "COMBINATIONS",
+                "",
+                "",
+                Arrays.<MatrixCombinationsShortcut>asList(
+                        new FlakyShortcut("flaky", 10, 2, false), new FlakyShortcut("stable", 20, 1, true)));
+        p.addProperty(new ParametersDefinitionProperty(def));
+
+        j.configRoundtrip((Item) p);
+
+        j.assertEqualDataBoundBeans(
+                def, p.getProperty(ParametersDefinitionProperty.class).getParameterDefinition("COMBINATIONS"));
+    }
+
+    private MatrixBuild build(MatrixProject p, String fail) throws Exception {
+        @SuppressWarnings("deprecation")
+        Cause cause = new Cause.UserCause();
+        return p.scheduleBuild2(
+                        0,
+                        cause,
+                        Arrays.asList(new ParametersAction(
+                                new MatrixCombinationsParameterValue(
+                                        "COMBINATIONS", new Boolean[] {true, true}, new String[] {"os=a", "os=b"}),
+                                new StringParameterValue("FAIL", fail))))
+                .get();
+    }
+
+    @Test
+    public void testCheck() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("os", "a", "b")));
+        p.addProperty(new ParametersDefinitionProperty(
+                new MatrixCombinationsParameterDefinition("COMBINATIONS", "", ""),
+                new StringParameterDefinition("FAIL", "")));
+        p.getBuildersList().add(new ConditionalFailBuilder("${os}", "${FAIL}"));
+
+        // os=a: failure, success, failure
+        build(p, "a");
+        build(p, "none");
+        MatrixBuild b = build(p, "a");
+        assertTrue(CombinationHistory.of(p).waitForLoaded(10, TimeUnit.SECONDS));
+
+        assertEquals(bits(0), new FlakyShortcut("flaky", 3, 1, false).getCombinationIndices(p, b));
+        assertEquals(bits(), new FlakyShortcut("flaky", 3, 2, false).getCombinationIndices(p, b));
+        // only the last two builds
+        assertEquals(bits(), new FlakyShortcut("flaky", 2, 1, false).getCombinationIndices(p, b));
+        assertEquals(bits(0), new FlakyShortcut("flaky", 2, 0, false).getCombinationIndices(p, b));
+
+        assertEquals(bits(1), new FlakyShortcut("stable", 3, 1, true).getCombinationIndices(p, b));
+        assertEquals(bits(0, 1), new FlakyShortcut("stable", 3, 2, true).getCombinationIndices(p, b));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import static hudson.plugins.matrix_configuration_parameter.MatrixCombinationsJenkinsRule.bits;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.MatrixProject;
+import hudson.matrix.TextAxis;
+import hudson.model.Cause;
+import hudson.model.Item;
+import hudson.model.ParametersAction;
+import hudson.model.ParametersDefinitionProperty;
+import hudson.plugins.matrix_configuration_parameter.CombinationHistory;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsJenkinsRule;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsParameterDefinition;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsParameterValue;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Tests for {@link LeastRecentlyTestedShortcut}
+ */
+public class LeastRecentlyTestedShortcutTest {
+    @ClassRule
+    public static MatrixCombinationsJenkinsRule j = new MatrixCombinationsJenkinsRule();
+
+    @Test
+    public void testConfiguration() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2", "value3")));
+        MatrixCombinationsParameterDefinition def = new MatrixCombinationsParameterDefinition(
+                "COMBINATIONS",
+                "",
+                "",
+                Arrays.<MatrixCombinationsShortcut>asList(new LeastRecentlyTestedShortcut("stale", 5)));
+        p.addProperty(new ParametersDefinitionProperty(def));
+
+        j.configRoundtrip((Item) p);
+
+        j.assertEqualDataBoundBeans(
+                def, p.getProperty(ParametersDefinitionProperty.class).getParameterDefinition("COMBINATIONS"));
+    }
+
+    private void build(MatrixProject p, String combination) throws Exception {
+        @SuppressWarnings("deprecation")
+        Cause cause = new Cause.UserCause();
+        j.assertBuildStatusSuccess(p.scheduleBuild2(
+                0,
+                cause,
+                Arrays.asList(new ParametersAction(new MatrixCombinationsParameterValue(
+                        "COMBINATIONS", new Boolean[] {true}, new String[] {combination})))));
+    }
+
+    @Test
+    public void testLeastRecentlyTested() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2", "value3", "value4")));
+        p.addProperty(
+                new ParametersDefinitionProperty(new MatrixCombinationsParameterDefinition("COMBINATIONS", "")));
+
+        j.assertBuildStatusSuccess(p.scheduleBuild2(0));
+        build(p, "axis1=value1");
+        build(p, "axis1=value2");
+        assertTrue(CombinationHistory.of(p).waitForLoaded(10, TimeUnit.SECONDS));
+
+        assertEquals(bits(2, 3), new LeastRecentlyTestedShortcut("stale", 2).getCombinationIndices(p, null));
+        assertEquals(bits(0, 2, 3), new LeastRecentlyTestedShortcut("stale", 3).getCombinationIndices(p, null));
+        assertEquals(bits(0, 1, 2, 3), new LeastRecentlyTestedShortcut("stale", 10).getCombinationIndices(p, null));
+
+        // never run comes first
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2", "value3", "value4", "value5")));
+        assertEquals(bits(2, 4), new LeastRecentlyTestedShortcut("stale", 2).getCombinationIndices(p, null));
+    }
+}
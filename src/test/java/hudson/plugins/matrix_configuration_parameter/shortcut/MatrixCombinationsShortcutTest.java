@@ -0,0 +1,124 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import static org.junit.Assert.assertEquals;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixProject;
+import hudson.matrix.TextAxis;
+import hudson.model.Result;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsJenkinsRule;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Tests for {@link MatrixCombinationsShortcut}
+ */
+public class MatrixCombinationsShortcutTest {
+    @ClassRule
+    public static MatrixCombinationsJenkinsRule j = new MatrixCombinationsJenkinsRule();
+
+    private static final AxisList AXES = new AxisList(
+            new TextAxis("axis1", "value1-1", "value1-2"), new TextAxis("axis2", "value2-1", "value2-2"));
+
+    /**
+     * Shortcut only implementing {@link #getCombinations(MatrixProject, MatrixBuild)}
+     */
+    private static class CombinationsShortcut extends MatrixCombinationsShortcut {
+        private final Collection<Combination> combinations;
+
+        CombinationsShortcut(Collection<Combination> combinations) {
+            this.combinations = combinations;
+        }
+
+        @Nonnull
+        @Override
+        public Collection<Combination> getCombinations(
+                @Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+            return combinations;
+        }
+
+        @Nonnull
+        @Override
+        public String getName() {
+            return "test";
+        }
+
+        @Nonnull
+        @Override
+        public String getId() {
+            return "test";
+        }
+    }
+
+    @Test
+    public void testDefaultCombinationIndices() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(AXES);
+        AxisList otherAxes = new AxisList(new TextAxis("axis1", "value1-3"));
+        MatrixCombinationsShortcut shortcut = new CombinationsShortcut(Arrays.asList(
+                new Combination(AXES, "value1-2", "value2-2"),
+                new Combination(AXES, "value1-1", "value2-2"),
+                // not in the axes
+                new Combination(otherAxes, "value1-3")));
+
+        BitSet expected = new BitSet();
+        expected.set(1);
+        expected.set(3);
+        assertEquals(expected, shortcut.getCombinationIndices(p, null));
+        assertEquals("1,3", shortcut.getCombinationsData(p, null));
+    }
+
+    @Test
+    public void testBuiltinShortcuts() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(AXES);
+        MatrixBuild b = j.assertBuildStatusSuccess(p.scheduleBuild2(0));
+
+        for (MatrixCombinationsShortcut shortcut : Arrays.asList(
+                new MatrixCombinationsShortcut.All(),
+                new MatrixCombinationsShortcut.None(),
+                new CombinationFilterShortcut("filter", "axis1 == 'value1-2'"),
+                new PreviousShortcut(),
+                new ResultShortcut("successful", true, Result.SUCCESS))) {
+            // same as the default implementation
+            assertEquals(
+                    shortcut.getClass().getName(),
+                    new CombinationsShortcut(shortcut.getCombinations(p, b)).getCombinationIndices(p, b),
+                    shortcut.getCombinationIndices(p, b));
+        }
+        assertEquals("0,1,2,3", new MatrixCombinationsShortcut.All().getCombinationsData(p, b));
+        assertEquals("", new MatrixCombinationsShortcut.None().getCombinationsData(p, b));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixProject;
+import hudson.matrix.TextAxis;
+import hudson.model.Item;
+import hudson.model.ParametersDefinitionProperty;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsJenkinsRule;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsParameterDefinition;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ShardShortcut}
+ */
+public class ShardShortcutTest {
+    @ClassRule
+    public static MatrixCombinationsJenkinsRule j = new MatrixCombinationsJenkinsRule();
+
+    @Test
+    public void testConfiguration() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2", "value3")));
+        MatrixCombinationsParameterDefinition def = new MatrixCombinationsParameterDefinition(
+                "COMBINATIONS", "", "", Arrays.<MatrixCombinationsShortcut>asList(new ShardShortcut("shard1", 3, 1)));
+        def.setShards(3);
+        p.addProperty(new ParametersDefinitionProperty(def));
+
+        j.configRoundtrip((Item) p);
+
+        j.assertEqualDataBoundBeans(
+                def, p.getProperty(ParametersDefinitionProperty.class).getParameterDefinition("COMBINATIONS"));
+    }
+
+    @Test
+    public void testShards() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(
+                new TextAxis("axis1", "value1", "value2", "value3", "value4"),
+                new TextAxis("axis2", "value1", "value2", "value3", "value4")));
+
+        BitSet all = new MatrixCombinationsShortcut.All().getCombinationIndices(p, null);
+        BitSet union = new BitSet();
+        for (int shard = 0; shard < 3; ++shard) {
+            BitSet indices = new ShardShortcut("shard", 3, shard).getCombinationIndices(p, null);
+            assertFalse(union.intersects(indices));
+            union.or(indices);
+        }
+        assertEquals(all, union);
+
+        // shards don't change when axes are reordered
+        Set<Combination> before = new HashSet<>(new ShardShortcut("shard", 3, 0).getCombinations(p, null));
+        p.setAxes(new AxisList(
+                new TextAxis("axis2", "value1", "value2", "value3", "value4"),
+                new TextAxis("axis1", "value1", "value2", "value3", "value4")));
+        assertEquals(before, new HashSet<>(new ShardShortcut("shard", 3, 0).getCombinations(p, null)));
+    }
+}
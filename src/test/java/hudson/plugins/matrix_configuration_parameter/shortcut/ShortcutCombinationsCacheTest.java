@@ -0,0 +1,225 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026 Jenkins contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package hudson.plugins.matrix_configuration_parameter.shortcut;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import hudson.matrix.AxisList;
+import hudson.matrix.Combination;
+import hudson.matrix.MatrixBuild;
+import hudson.matrix.MatrixProject;
+import hudson.matrix.TextAxis;
+import hudson.model.Result;
+import hudson.plugins.matrix_configuration_parameter.ConditionalFailBuilder;
+import hudson.plugins.matrix_configuration_parameter.MatrixCombinationsJenkinsRule;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ShortcutCombinationsCache}
+ */
+public class ShortcutCombinationsCacheTest {
+    @ClassRule
+    public static MatrixCombinationsJenkinsRule j = new MatrixCombinationsJenkinsRule();
+
+    /**
+     * Slow shortcut counting computations.
+     */
+    private static class CountingShortcut extends MatrixCombinationsShortcut {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Nonnull
+        @Override
+        public Collection<Combination> getCombinations(
+                @Nonnull MatrixProject project, @CheckForNull MatrixBuild build) {
+            count.incrementAndGet();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            List<Combination> combinations = new ArrayList<>();
+            for (Combination c : project.getAxes().list()) {
+                combinations.add(c);
+            }
+            return combinations;
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+
+        @Nonnull
+        @Override
+        public String getName() {
+            return "counting";
+        }
+
+        @Nonnull
+        @Override
+        public String getId() {
+            return "counting";
+        }
+    }
+
+    @Test
+    public void testCache() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2")));
+        CountingShortcut shortcut = new CountingShortcut();
+
+        assertEquals("0,1", shortcut.getCombinationsData(p, null));
+        assertEquals("0,1", shortcut.getCombinationsData(p, null));
+        assertEquals(1, shortcut.count.get());
+
+        // saving the project drops results
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2", "value3")));
+        assertEquals("0,1,2", shortcut.getCombinationsData(p, null));
+        assertEquals(2, shortcut.count.get());
+
+        // so does a build
+        MatrixBuild b = j.assertBuildStatusSuccess(p.scheduleBuild2(0));
+        assertEquals("0,1,2", shortcut.getCombinationsData(p, null));
+        assertEquals(3, shortcut.count.get());
+        assertEquals("0,1,2", shortcut.getCombinationsData(p, b));
+        assertEquals(4, shortcut.count.get());
+        assertEquals("0,1,2", shortcut.getCombinationsData(p, b));
+        assertEquals(4, shortcut.count.get());
+    }
+
+    @Test
+    public void testSingleFlight() throws Exception {
+        final MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2")));
+        final CountingShortcut shortcut = new CountingShortcut();
+
+        final int threads = 10;
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threads; ++i) {
+                results.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() throws Exception {
+                        start.await();
+                        return shortcut.getCombinationsData(p, null);
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<String> result : results) {
+                assertEquals("0,1", result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, shortcut.count.get());
+    }
+
+    @Test
+    public void testRunResults() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2", "value3")));
+        p.getBuildersList().add(new ConditionalFailBuilder("${axis1}", "value2"));
+        MatrixBuild b = j.assertBuildStatus(Result.FAILURE, p.scheduleBuild2(0).get());
+
+        BuildRunResults runResults = ShortcutCombinationsCache.get().getRunResults(p, b);
+        assertSame(runResults, ShortcutCombinationsCache.get().getRunResults(p, b));
+        assertEquals("0,2", new ResultShortcut("Successful", false, Result.SUCCESS).getCombinationsData(p, b));
+        assertEquals("1", new ResultShortcut("Failed", true, Result.FAILURE).getCombinationsData(p, b));
+        assertEquals("0,1,2", new PreviousShortcut().getCombinationsData(p, b));
+        // shared by shortcuts
+        assertSame(runResults, ShortcutCombinationsCache.get().getRunResults(p, b));
+
+        // dropped by a new build
+        j.assertBuildStatus(Result.FAILURE, p.scheduleBuild2(0).get());
+        assertNotSame(runResults, ShortcutCombinationsCache.get().getRunResults(p, b));
+    }
+
+    @Test
+    public void testProjectDeleted() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2")));
+        MatrixBuild b = j.assertBuildStatusSuccess(p.scheduleBuild2(0));
+
+        BuildRunResults runResults = ShortcutCombinationsCache.get().getRunResults(p, b);
+        assertTrue(runResults.isFor(b));
+        assertTrue(ShortcutCombinationsCache.get().isCached(p));
+
+        p.delete();
+        assertFalse(ShortcutCombinationsCache.get().isCached(p));
+    }
+
+    @Test
+    public void testNotCacheable() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2")));
+        CountingShortcut shortcut = new CountingShortcut() {
+            @Override
+            public boolean isCacheable() {
+                return false;
+            }
+        };
+
+        shortcut.getCombinationsData(p, null);
+        shortcut.getCombinationsData(p, null);
+        assertEquals(2, shortcut.count.get());
+    }
+
+    @Test
+    public void testNotCacheableForProject() throws Exception {
+        MatrixProject p = j.createMatrixProject();
+        p.setAxes(new AxisList(new TextAxis("axis1", "value1", "value2")));
+        CountingShortcut shortcut = new CountingShortcut() {
+            @Override
+            public boolean isCacheable(@Nonnull MatrixProject project) {
+                // for example, states of the project are still loading
+                return false;
+            }
+        };
+
+        shortcut.getCombinationsData(p, null);
+        shortcut.getCombinationsData(p, null);
+        assertEquals(2, shortcut.count.get());
+    }
+}